@@ -0,0 +1,30 @@
+package com.raczyk.gameoflife.world;
+
+import java.util.Random;
+
+/**
+ * Class representing Random which draws alive cells with given density.
+ * Worlds initialize cells with nextInt(2), so this method returns 1 with probability equal
+ * to the density, and 0 otherwise.
+ */
+public class DensityRandom extends Random {
+  private static final long serialVersionUID = 1L;
+
+  private final double density;
+
+  /**
+   * Constructs Random with fixed seed drawing alive cells with given density.
+   *
+   * @param seed seed of the generator.
+   * @param density probability of drawing alive cell, from 0 to 1.
+   */
+  public DensityRandom(long seed, double density) {
+    super(seed);
+    this.density = density;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return nextDouble() < density ? 1 : 0;
+  }
+}
@@ -0,0 +1,78 @@
+package com.raczyk.gameoflife.world;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of World initialization, stepping and rendering for square worlds of given size
+ * initialized with given density of alive cells.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldBenchmark {
+  private static final long SEED = 4L;
+
+  @Param({"64", "256", "1024"})
+  private int size;
+
+  @Param({"0.1", "0.5"})
+  private double density;
+
+  private World world;
+
+  /**
+   * Method creating initialized world before each iteration. Stepping the same world through
+   * all iterations would let the random soup settle, so later iterations would measure
+   * an almost static world instead of the given density.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() {
+    world = createWorld();
+    world.initWorld(new DensityRandom(SEED, density));
+  }
+
+  /**
+   * Method measuring creation and initialization of the world.
+   */
+  @Benchmark
+  public World initWorld() {
+    var initializedWorld = createWorld();
+    initializedWorld.initWorld(new DensityRandom(SEED, density));
+    return initializedWorld;
+  }
+
+  /**
+   * Method measuring establishing and evolving to the next generation.
+   */
+  @Benchmark
+  public World step() {
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+    return world;
+  }
+
+  @Benchmark
+  public String getWorldRepresentation() {
+    return world.getWorldRepresentation();
+  }
+
+  private World createWorld() {
+    return new World(size, size, new HashMap<>());
+  }
+}
@@ -0,0 +1,95 @@
+package com.raczyk.gameoflife.world;
+
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.grid.ByteGridWorld;
+import com.raczyk.gameoflife.world.grid.ScalarByteGridKernel;
+import com.raczyk.gameoflife.world.hashlife.HashLifeWorld;
+import com.raczyk.gameoflife.world.offheap.OffHeapWorld;
+import com.raczyk.gameoflife.world.rule.Rule;
+import com.raczyk.gameoflife.world.sparse.SparseWorld;
+import com.raczyk.gameoflife.world.tile.TiledWorld;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark comparing a single generation step of every world engine on the same random world.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldEngineBenchmark {
+  private static final long SEED = 4L;
+  private static final Map<String, IntFunction<WorldEngine>> ENGINES = Map.of(
+      "World", size -> new World(size, size, new HashMap<>()),
+      "BitBoardWorld", size -> new BitBoardWorld(size, size),
+      "SparseWorld", size -> new SparseWorld(size, size),
+      "HashLifeWorld", size -> new HashLifeWorld(size, size),
+      "ByteGridWorld", size -> new ByteGridWorld(size, size),
+      "ScalarByteGridWorld", size -> new ByteGridWorld(size, size, Rule.CONWAY, Topology.BOUNDED,
+          new ScalarByteGridKernel()),
+      "TiledWorld", size -> new TiledWorld(size, size),
+      "OffHeapWorld", size -> new OffHeapWorld(size, size));
+
+  @Param({"World", "BitBoardWorld", "SparseWorld", "HashLifeWorld", "ByteGridWorld",
+      "ScalarByteGridWorld", "TiledWorld", "OffHeapWorld"})
+  private String engine;
+
+  @Param({"256", "1024"})
+  private int size;
+
+  @Param({"0.1", "0.5"})
+  private double density;
+
+  private WorldEngine world;
+
+  /**
+   * Method creating initialized world of the benchmarked engine before each iteration,
+   * so every iteration steps a world of the given density, as in WorldBenchmark.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() {
+    world = ENGINES.get(engine).apply(size);
+    world.initWorld(new DensityRandom(SEED, density));
+  }
+
+  /**
+   * Method releasing resources of engines which hold them, such as off-heap memory,
+   * after each iteration.
+   *
+   * @throws Exception when the engine cannot be closed.
+   */
+  @TearDown(Level.Iteration)
+  public void tearDown() throws Exception {
+    if (world instanceof AutoCloseable) {
+      ((AutoCloseable) world).close();
+    }
+  }
+
+  /**
+   * Method measuring establishing and evolving to the next generation.
+   */
+  @Benchmark
+  public WorldEngine step() {
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+    return world;
+  }
+}
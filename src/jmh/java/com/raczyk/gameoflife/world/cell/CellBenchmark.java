@@ -0,0 +1,63 @@
+package com.raczyk.gameoflife.world.cell;
+
+import com.raczyk.gameoflife.world.DensityRandom;
+import com.raczyk.gameoflife.world.Point;
+import com.raczyk.gameoflife.world.cell.state.KnownStateFactory;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of counting living neighbours of a cell surrounded by cells drawn with given density.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CellBenchmark {
+  private static final int SIZE = 3;
+  private static final long SEED = 4L;
+
+  @Param({"0.1", "0.5"})
+  private double density;
+
+  private Cell cell;
+
+  /**
+   * Method creating cell with eight neighbours before each trial.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    var random = new DensityRandom(SEED, density);
+    var knownStates = new KnownStateFactory();
+    var world = new HashMap<Point, Cell>();
+    for (int coordinateX = 0; coordinateX < SIZE; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < SIZE; coordinateY++) {
+        var point = new Point(coordinateX, coordinateY);
+        var worldCell = new Cell(point);
+        worldCell.setCurrentState(knownStates.getRandomKnownState(random));
+        world.put(point, worldCell);
+      }
+    }
+    cell = world.get(new Point(SIZE / 2, SIZE / 2));
+    cell.setNeighbours(world);
+  }
+
+  @Benchmark
+  public long getLivingNeighboursNo() {
+    return cell.getLivingNeighboursNo();
+  }
+}
@@ -0,0 +1,50 @@
+package com.raczyk.gameoflife.world;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interface representing control over a multi-generation advance of a world.
+ * World asks whether the advance is cancelled before each step and reports progress after it,
+ * so long runs can be stopped cooperatively and observed without driving them step by step.
+ */
+public interface AdvanceControl {
+
+  /**
+   * Control which never cancels the advance and ignores progress.
+   */
+  AdvanceControl NONE = new AdvanceControl() {
+  };
+
+  /**
+   * Method creating control cancelling the advance once the given flag is set.
+   *
+   * @param cancelled flag set, for example from another thread, to cancel the advance.
+   * @return control backed by the flag.
+   */
+  static AdvanceControl cancelledBy(AtomicBoolean cancelled) {
+    return new AdvanceControl() {
+      @Override
+      public boolean isCancelled() {
+        return cancelled.get();
+      }
+    };
+  }
+
+  /**
+   * Method checking whether the advance should stop before the next step.
+   *
+   * @return true when the advance is cancelled.
+   */
+  default boolean isCancelled() {
+    return false;
+  }
+
+  /**
+   * Method called after each step of the advance.
+   *
+   * @param advancedNo number of generations advanced so far.
+   * @param generationsNo number of generations requested.
+   */
+  default void onProgress(long advancedNo, long generationsNo) {
+  }
+}
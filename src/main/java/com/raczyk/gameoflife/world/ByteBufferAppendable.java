@@ -0,0 +1,39 @@
+package com.raczyk.gameoflife.world;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Class representing Appendable which puts characters into a ByteBuffer, one byte each.
+ * It is meant for US-ASCII text such as world representation; higher bits of characters
+ * are dropped.
+ */
+public final class ByteBufferAppendable implements Appendable {
+  private static final String NULL_TEXT = "null";
+
+  private final ByteBuffer buffer;
+
+  public ByteBufferAppendable(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public ByteBufferAppendable append(CharSequence text) {
+    var appendedText = text == null ? NULL_TEXT : text;
+    return append(appendedText, 0, appendedText.length());
+  }
+
+  @Override
+  public ByteBufferAppendable append(CharSequence text, int start, int end) {
+    var appendedText = text == null ? NULL_TEXT : text;
+    for (int charNo = start; charNo < end; charNo++) {
+      buffer.put((byte) appendedText.charAt(charNo));
+    }
+    return this;
+  }
+
+  @Override
+  public ByteBufferAppendable append(char character) {
+    buffer.put((byte) character);
+    return this;
+  }
+}
@@ -0,0 +1,15 @@
+package com.raczyk.gameoflife.world;
+
+/**
+ * Class holding characters used to present cells of the world, shared by all engines,
+ * so every engine presents the same world in the same way.
+ */
+final class CellRepresentation {
+  static final int KNOWN_STATES_NO = 2;
+  static final char[] CELL_REPRESENTATIONS = {'#', 'X'};
+  static final char STATE_SEPARATOR = ' ';
+  static final char ROW_SEPARATOR = '\n';
+
+  private CellRepresentation() {
+  }
+}
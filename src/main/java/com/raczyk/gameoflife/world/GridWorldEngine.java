@@ -0,0 +1,105 @@
+package com.raczyk.gameoflife.world;
+
+import com.raczyk.gameoflife.world.rle.CellSetter;
+import java.io.IOException;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Interface representing engine which stores cells of the world in a matrix with given number
+ * of columns and rows and gives access to every cell of it.
+ * Random initialization and representation are implemented once over getCell and setCell,
+ * so all such engines draw and present the same world as World does.
+ */
+public interface GridWorldEngine extends WorldEngine {
+
+  int getMaxColumnNo();
+
+  int getMaxRowNo();
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  int getCell(int coordinateX, int coordinateY);
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  void setCell(int coordinateX, int coordinateY, int state);
+
+  /**
+   * Method initializing world matrix with random state for each cell.
+   * States are drawn in the same order as World does, so the same seed gives the same world.
+   *
+   * @param random object used to generate random states of cells.
+   */
+  @Override
+  default void initWorld(Random random) {
+    initCells(random, getMaxColumnNo(), getMaxRowNo(), this::setCell);
+  }
+
+  /**
+   * Method appending representation of cells in world matrix to the given output,
+   * one line per column.
+   *
+   * @param output destination of the representation.
+   * @throws IOException when output cannot be written.
+   */
+  @Override
+  default void appendRepresentation(Appendable output) throws IOException {
+    for (int coordinateX = 0; coordinateX < getMaxColumnNo(); coordinateX++) {
+      for (int coordinateY = 0; coordinateY < getMaxRowNo(); coordinateY++) {
+        appendCell(output, getCell(coordinateX, coordinateY));
+      }
+      output.append(CellRepresentation.ROW_SEPARATOR);
+    }
+  }
+
+  /**
+   * Method drawing random state for each cell of a matrix in the same order as World does,
+   * for engines which keep their cells outside of a single matrix.
+   *
+   * @param random object used to generate random states of cells.
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param cells destination of drawn states.
+   */
+  static void initCells(Random random, int maxColumnNo, int maxRowNo, CellSetter cells) {
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < maxRowNo; coordinateY++) {
+        cells.setCell(coordinateX, coordinateY,
+            random.nextInt(CellRepresentation.KNOWN_STATES_NO));
+      }
+    }
+  }
+
+  /**
+   * Method appending representation of a single line of cells, for engines which read
+   * their cells line by line.
+   *
+   * @param output destination of the representation.
+   * @param maxRowNo number of cells in the line.
+   * @param lineCells function returning state of a cell of the line for its coordinate y.
+   * @throws IOException when output cannot be written.
+   */
+  static void appendLine(Appendable output, int maxRowNo, IntUnaryOperator lineCells)
+      throws IOException {
+    for (int coordinateY = 0; coordinateY < maxRowNo; coordinateY++) {
+      appendCell(output, lineCells.applyAsInt(coordinateY));
+    }
+    output.append(CellRepresentation.ROW_SEPARATOR);
+  }
+
+  private static void appendCell(Appendable output, int state) throws IOException {
+    output.append(CellRepresentation.CELL_REPRESENTATIONS[state]);
+    output.append(CellRepresentation.STATE_SEPARATOR);
+  }
+}
@@ -1,21 +1,47 @@
 package com.raczyk.gameoflife.world;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Class representing point in the world, where cell exists.
  */
 public final class Point {
-  private final Integer coordinateX;
-  private final Integer coordinateY;
+  private final int coordinateX;
+  private final int coordinateY;
 
-  public Point(Integer coordinateX, Integer coordinateY) {
+  public Point(int coordinateX, int coordinateY) {
     this.coordinateX = coordinateX;
     this.coordinateY = coordinateY;
   }
 
+  /**
+   * Method creating point from its packed key.
+   *
+   * @param key key created by PointKey.
+   * @return point with coordinates stored in the key.
+   */
+  public static Point fromKey(long key) {
+    return new Point(PointKey.getCoordinateX(key), PointKey.getCoordinateY(key));
+  }
+
+  public int getCoordinateX() {
+    return coordinateX;
+  }
+
+  public int getCoordinateY() {
+    return coordinateY;
+  }
+
+  /**
+   * Method returning the point packed into a single long value.
+   *
+   * @return key representing the point.
+   */
+  public long toKey() {
+    return PointKey.of(coordinateX, coordinateY);
+  }
+
   /**
    * Method returning all Points that are neighbours to current point.
    * Points can be negative (negative coordinate x and y).
@@ -24,15 +50,12 @@ public final class Point {
    *
    */
   public List<Point> getNeighbourPoints() {
-    final var neighbourDistance = 1;
-    final var coordinatesX = List.of(coordinateX - neighbourDistance, coordinateX,
-        coordinateX + neighbourDistance);
-    final var coordinatesY = List.of(coordinateY - neighbourDistance, coordinateY,
-        coordinateY + neighbourDistance);
-    return coordinatesX.stream()
-        .flatMap(x -> coordinatesY.stream().map(y -> new Point(x, y)))
-        .filter(point -> !point.equals(this))
-        .collect(Collectors.toList());
+    final var key = toKey();
+    var neighbourPoints = new ArrayList<Point>(PointKey.NEIGHBOURS_NO);
+    for (int neighbourNo = 0; neighbourNo < PointKey.NEIGHBOURS_NO; neighbourNo++) {
+      neighbourPoints.add(fromKey(PointKey.getNeighbourKey(key, neighbourNo)));
+    }
+    return neighbourPoints;
   }
 
   @Override
@@ -44,11 +67,11 @@ public final class Point {
       return false;
     }
     Point point = (Point) o;
-    return coordinateX.equals(point.coordinateX) && coordinateY.equals(point.coordinateY);
+    return coordinateX == point.coordinateX && coordinateY == point.coordinateY;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(coordinateX, coordinateY);
+    return 31 * coordinateX + coordinateY;
   }
 }
@@ -0,0 +1,58 @@
+package com.raczyk.gameoflife.world;
+
+/**
+ * Class packing coordinates of a point into a single long key.
+ * Coordinate x is kept in the upper half of the key and biased coordinate y in the lower half,
+ * so keys of neighbour points differ by constant offsets and keys are ordered by x, then y.
+ * Keys can be used in primitive collections or compared without creating Point objects.
+ */
+public final class PointKey {
+  public static final int NEIGHBOURS_NO = 8;
+
+  private static final int HALF_SHIFT = Integer.SIZE;
+  private static final long LOWER_HALF_MASK = 0xFFFFFFFFL;
+  private static final long[] NEIGHBOUR_OFFSETS = {
+      offset(-1, -1), offset(-1, 0), offset(-1, 1),
+      offset(0, -1), offset(0, 1),
+      offset(1, -1), offset(1, 0), offset(1, 1)
+  };
+
+  private PointKey() {
+  }
+
+  /**
+   * Method packing coordinates into a key.
+   *
+   * @param coordinateX coordinate x of the point.
+   * @param coordinateY coordinate y of the point.
+   * @return key representing the point.
+   */
+  public static long of(int coordinateX, int coordinateY) {
+    return ((long) coordinateX << HALF_SHIFT)
+        | ((coordinateY ^ Integer.MIN_VALUE) & LOWER_HALF_MASK);
+  }
+
+  public static int getCoordinateX(long key) {
+    return (int) (key >> HALF_SHIFT);
+  }
+
+  public static int getCoordinateY(long key) {
+    return (int) key ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * Method returning key of one of eight neighbour points, without unpacking the coordinates.
+   * Coordinate y of the neighbour has to fit in int range.
+   *
+   * @param key key of the point.
+   * @param neighbourNo number of the neighbour, from 0 to 7.
+   * @return key of the neighbour point.
+   */
+  public static long getNeighbourKey(long key, int neighbourNo) {
+    return key + NEIGHBOUR_OFFSETS[neighbourNo];
+  }
+
+  private static long offset(int distanceX, int distanceY) {
+    return ((long) distanceX << HALF_SHIFT) + distanceY;
+  }
+}
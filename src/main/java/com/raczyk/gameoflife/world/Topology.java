@@ -0,0 +1,95 @@
+package com.raczyk.gameoflife.world;
+
+/**
+ * Enum representing the way edges of the world are joined.
+ * Topology tells which column of the world is seen beyond each edge:
+ *  - BOUNDED - nothing, cells beyond edges are always dead,
+ *  - TORUS - opposite edges are joined, so column beyond the last one is the first one,
+ *    and row beyond the last one is the first one,
+ *  - KLEIN_BOTTLE - columns are joined as on torus, while rows are joined with reversed
+ *    order of columns.
+ * Engines use it to fill halo of ghost cells around the world once per generation, so cells
+ * are evolved without checking whether their neighbours exist.
+ */
+public enum Topology {
+  BOUNDED {
+    @Override
+    public int getHaloColumnSource(int haloColumn, int maxColumnNo) {
+      return NO_SOURCE;
+    }
+
+    @Override
+    public int getWrappedRowColumnSource(int coordinateX, int maxColumnNo) {
+      return NO_SOURCE;
+    }
+  },
+  TORUS {
+    @Override
+    public int getHaloColumnSource(int haloColumn, int maxColumnNo) {
+      return Math.floorMod(haloColumn, maxColumnNo);
+    }
+
+    @Override
+    public int getWrappedRowColumnSource(int coordinateX, int maxColumnNo) {
+      return coordinateX;
+    }
+  },
+  KLEIN_BOTTLE {
+    @Override
+    public int getHaloColumnSource(int haloColumn, int maxColumnNo) {
+      return Math.floorMod(haloColumn, maxColumnNo);
+    }
+
+    @Override
+    public int getWrappedRowColumnSource(int coordinateX, int maxColumnNo) {
+      return maxColumnNo - 1 - coordinateX;
+    }
+  };
+
+  /**
+   * Value returned when cells beyond the edge are dead.
+   */
+  public static final int NO_SOURCE = -1;
+
+  /**
+   * Method returning column of the world seen at given column beyond the left or right edge.
+   *
+   * @param haloColumn column beyond the edge, -1 or maxColumnNo.
+   * @param maxColumnNo number of columns in the world.
+   * @return column of the world copied to the halo column, or NO_SOURCE.
+   */
+  public abstract int getHaloColumnSource(int haloColumn, int maxColumnNo);
+
+  /**
+   * Method returning column of the world whose first and last rows are seen beyond the top
+   * and bottom edge of given column.
+   *
+   * @param coordinateX column of the world.
+   * @param maxColumnNo number of columns in the world.
+   * @return column whose last row precedes the column and whose first row follows it,
+   *     or NO_SOURCE.
+   */
+  public abstract int getWrappedRowColumnSource(int coordinateX, int maxColumnNo);
+
+  /**
+   * Method returning point of the world seen at given point, which can lie beyond edges.
+   *
+   * @param point point with coordinates from -1 to the number of columns or rows.
+   * @param maxColumnNo number of columns in the world.
+   * @param maxRowNo number of rows in the world.
+   * @return point inside of the world, or the given point when cells beyond edges are dead.
+   */
+  public Point wrap(Point point, int maxColumnNo, int maxRowNo) {
+    var coordinateX = point.getCoordinateX();
+    var coordinateY = point.getCoordinateY();
+    var columnInside = coordinateX >= 0 && coordinateX < maxColumnNo;
+    var rowInside = coordinateY >= 0 && coordinateY < maxRowNo;
+    var wrappedX = columnInside ? coordinateX : getHaloColumnSource(coordinateX, maxColumnNo);
+    wrappedX = rowInside || wrappedX == NO_SOURCE
+        ? wrappedX : getWrappedRowColumnSource(wrappedX, maxColumnNo);
+    if (wrappedX == NO_SOURCE) {
+      return point;
+    }
+    return new Point(wrappedX, Math.floorMod(coordinateY, maxRowNo));
+  }
+}
@@ -1,98 +1,414 @@
 package com.raczyk.gameoflife.world;
 
 import com.raczyk.gameoflife.world.cell.Cell;
+import com.raczyk.gameoflife.world.cell.state.CellState;
 import com.raczyk.gameoflife.world.cell.state.KnownStateFactory;
+import com.raczyk.gameoflife.world.diff.GenerationDiff;
+import com.raczyk.gameoflife.world.diff.GenerationDiffListener;
+import com.raczyk.gameoflife.world.diff.Subscription;
+import com.raczyk.gameoflife.world.frontier.FrontierStepper;
+import com.raczyk.gameoflife.world.frontier.SequentialFrontierStepper;
+import com.raczyk.gameoflife.world.init.BulkInitializer;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
 /**
  * Class representing world build with matrix of cells.
+ * Only the frontier of the world is evaluated in each generation: cells which changed their
+ * state in the previous generation together with their neighbours. Other cells cannot change,
+ * so the cost of a generation is proportional to the activity rather than to the world size.
+ * The first generation after initialization evaluates every cell.
+ * World keeps a Zobrist hash of alive cells, updated only for cells which changed their state,
+ * so repeated generations can be detected without comparing whole worlds.
  */
-public class World {
+public class World implements WorldEngine {
   private final int maxColumnNo;
   private final int maxRowNo;
   private final Map<Point, Cell> worldMatrix;
+  private final Cell[] cellIndex;
+  private final Rule rule;
+  private final KnownStateFactory knownStates;
+  private final Topology topology;
+  private final FrontierStepper frontierStepper;
+  private final Cell[] frontier;
+  private final Cell[] changedCells;
+  private final long[] frontierMarks;
+  private final Consumer<Cell> addToFrontier;
+  private final long[] zobristKeys;
+  private final List<GenerationDiffListener> diffListeners;
+  private int frontierSize;
+  private long frontierMark;
+  private long population;
+  private long birthsNo;
+  private long deathsNo;
+  private long hash;
+  private boolean nextGenerationSet;
 
   /**
    * Constructs a world represented as matrix of cells with
-   * given number of columns and rows passed as parameter.
+   * given number of columns and rows passed as parameter. Cells evolve with Conway's rule.
    *
    * @param maxColumnNo number of columns in matrix of cells.
    * @param maxRowNo number of rows in matrix of cells.
    * @param worldMatrix matrix used as a container for cells.
+   *     Cells are additionally indexed by their coordinates, so the world can be traversed
+   *     without creating Points.
    */
   public World(int maxColumnNo, int maxRowNo, Map<Point, Cell> worldMatrix) {
+    this(maxColumnNo, maxRowNo, worldMatrix, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs a world represented as matrix of cells with
+   * given number of columns and rows passed as parameter. Cells evolve with given rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param worldMatrix matrix used as a container for cells.
+   * @param rule rule deciding about future states of cells.
+   */
+  public World(int maxColumnNo, int maxRowNo, Map<Point, Cell> worldMatrix, Rule rule) {
+    this(maxColumnNo, maxRowNo, worldMatrix, rule, Topology.BOUNDED);
+  }
+
+  /**
+   * Constructs a world represented as matrix of cells with given number of columns and rows
+   * passed as parameter. Cells evolve with given rule and edges are joined with given topology.
+   * Topology is applied once, when cells register their neighbours.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param worldMatrix matrix used as a container for cells.
+   * @param rule rule deciding about future states of cells.
+   * @param topology way edges of the world are joined.
+   */
+  public World(int maxColumnNo, int maxRowNo, Map<Point, Cell> worldMatrix, Rule rule,
+               Topology topology) {
+    this(maxColumnNo, maxRowNo, worldMatrix, rule, topology, new SequentialFrontierStepper());
+  }
+
+  /**
+   * Constructs a world represented as matrix of cells with given number of columns and rows
+   * passed as parameter. Cells evolve with given rule, edges are joined with given topology
+   * and future states of the frontier are established by given stepper, for example
+   * ForkJoinFrontierStepper to evaluate stripes of the frontier in parallel.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param worldMatrix matrix used as a container for cells.
+   * @param rule rule deciding about future states of cells.
+   * @param topology way edges of the world are joined.
+   * @param frontierStepper strategy establishing future states of the frontier.
+   */
+  public World(int maxColumnNo, int maxRowNo, Map<Point, Cell> worldMatrix, Rule rule,
+               Topology topology, FrontierStepper frontierStepper) {
     this.maxColumnNo = maxColumnNo;
     this.maxRowNo = maxRowNo;
     this.worldMatrix = worldMatrix;
+    this.cellIndex = new Cell[maxColumnNo * maxRowNo];
+    this.rule = rule;
+    this.knownStates = new KnownStateFactory(rule);
+    this.topology = topology;
+    this.frontierStepper = frontierStepper;
+    this.frontier = new Cell[cellIndex.length + 1];
+    this.changedCells = new Cell[cellIndex.length];
+    this.frontierMarks = new long[cellIndex.length];
+    this.addToFrontier = this::addToFrontier;
+    this.zobristKeys = ZobristKeys.generate(cellIndex.length);
+    this.diffListeners = new CopyOnWriteArrayList<>();
   }
 
   /**
    * Method initializing world matrix. It firstly create cells and pick random state for each one.
-   * When all cells are created, each cell register its neighbours.
+   * When all cells are created, each cell register its neighbours. Columns of the matrix
+   * register their neighbours in parallel, as the world matrix is only read at that point.
    *
    * @param random object used to generate random states of cells.
    */
+  @Override
   public void initWorld(Random random) {
-    initializeWorldWithCells(random);
-    registerNeighbour();
+    initializeWorldWithCells(cell -> knownStates.getRandomKnownState(random));
+  }
+
+  /**
+   * Method initializing world matrix with states generated in bulk, 64 cells per random word.
+   * It does not draw states in the same order as initWorld(Random), so the same seed gives
+   * a different world, but the same initializer always gives the same world.
+   *
+   * @param initializer initializer generating states of cells.
+   */
+  public void initWorld(BulkInitializer initializer) {
+    var cells = initializer.generate(maxColumnNo, maxRowNo);
+    initializeWorldWithCells(cell -> knownStates.getKnownState(cells.getCell(
+        cell.getPoint().getCoordinateX(), cell.getPoint().getCoordinateY())));
+  }
+
+  /**
+   * Method initializing world matrix with dead cells, so that it can be filled with setCell
+   * method, for example from a pattern file.
+   */
+  public void initWorld() {
+    initializeWorldWithCells(cell -> knownStates.getKnownState(Rule.DEAD_STATE));
   }
 
-  private void initializeWorldWithCells(Random random) {
+  private void initializeWorldWithCells(Function<Cell, CellState> initialState) {
     IntStream.range(0, maxColumnNo)
         .forEach(coordinateX -> IntStream.range(0, maxRowNo)
             .forEach(coordinateY -> {
                   var point = new Point(coordinateX, coordinateY);
                   var worldCell = new Cell(point);
-                  var knownStateFactory = new KnownStateFactory(worldCell, random);
-                  worldCell.setCurrentState(knownStateFactory.getRandomKnownState());
+                  worldCell.setCurrentState(initialState.apply(worldCell));
                   worldMatrix.put(point, worldCell);
+                  cellIndex[getCellIndex(coordinateX, coordinateY)] = worldCell;
                 }
             )
         );
+    registerNeighbour();
+    population = Arrays.stream(cellIndex).mapToLong(Cell::getLivingCellsNo).sum();
+    birthsNo = 0;
+    deathsNo = 0;
+    hash = IntStream.range(0, cellIndex.length)
+        .mapToLong(index -> zobristKeys[index] & -cellIndex[index].getLivingCellsNo())
+        .reduce(0L, (first, second) -> first ^ second);
+    System.arraycopy(cellIndex, 0, frontier, 0, cellIndex.length);
+    frontierSize = cellIndex.length;
+    frontierMark++;
+    Arrays.fill(frontierMarks, frontierMark);
+    nextGenerationSet = false;
   }
 
   private void registerNeighbour() {
-    worldMatrix.values().forEach(cell -> cell.setNeighbours(worldMatrix));
+    UnaryOperator<Point> wrap = point -> topology.wrap(point, maxColumnNo, maxRowNo);
+    Arrays.stream(cellIndex).parallel().forEach(cell -> cell.setNeighbours(worldMatrix, wrap));
+  }
+
+  private int getCellIndex(int coordinateX, int coordinateY) {
+    return coordinateX * maxRowNo + coordinateY;
+  }
+
+  private int getCellIndex(Cell cell) {
+    var point = cell.getPoint();
+    return getCellIndex(point.getCoordinateX(), point.getCoordinateY());
+  }
+
+  private void addToFrontier(Cell cell) {
+    var index = getCellIndex(cell);
+    frontier[frontierSize] = cell;
+    frontierSize += frontierMarks[index] == frontierMark ? 0 : 1;
+    frontierMarks[index] = frontierMark;
   }
 
   /**
    * Method establishing next generation of cells by setting future state
-   * for each cell in world matrix.
+   * for each cell in the frontier of the world matrix with the frontier stepper.
    */
+  @Override
   public void setNextGeneration() {
-    worldMatrix.values().forEach(Cell::setNextGeneration);
+    frontierStepper.step(frontier, frontierSize, changedCells);
+    nextGenerationSet = true;
   }
 
   /**
    * Method evolving cells to the new generation.
-   * It does that by changing current state of each cell to the future state.
+   * It does that by changing current state of each cell in the frontier to the future state.
+   * Cells which changed their state and their neighbours form the frontier of the next
+   * generation. Changed cells which were alive died, the other ones were born.
    */
+  @Override
   public void evolveToNextGeneration() {
-    worldMatrix.values().forEach(Cell::evolve);
+    var changedCellsNo = 0;
+    var diedCellsNo = 0;
+    for (int cellNo = 0; cellNo < frontierSize; cellNo++) {
+      var cell = frontier[cellNo];
+      var changing = cell.isChanging() ? 1 : 0;
+      changedCells[changedCellsNo] = cell;
+      changedCellsNo += changing;
+      diedCellsNo += changing & cell.getLivingCellsNo();
+      cell.evolve();
+    }
+    completeGeneration(changedCellsNo, diedCellsNo);
   }
 
   /**
-   * Method returning String representing state of cells in world matrix.
+   * Method advancing world by given number of generations unless it is cancelled.
+   * In each generation the frontier stepper establishes future states of the frontier
+   * and collects changing cells, so only cells which really change are evolved afterwards,
+   * instead of going through the whole frontier again in evolveToNextGeneration.
    *
-   * @return String presenting current world state.
+   * @param generationsNo number of generations, not negative.
+   * @param control control deciding about cancellation and receiving progress.
+   * @return number of generations advanced, smaller than requested when cancelled.
    */
-  public String getWorldRepresentation() {
-    final var stateSeparator = " ";
-    final var rowSeparator = "\n";
-    var worldState = new StringBuilder();
-    IntStream.range(0, maxColumnNo)
-        .forEach(coordinateX -> {
-          IntStream.range(0, maxRowNo).forEach(coordinateY -> {
-                var worldCell = worldMatrix.get(new Point(coordinateX, coordinateY));
-                worldState.append(worldCell.display());
-                worldState.append(stateSeparator);
-              }
-          );
-          worldState.append(rowSeparator);
-        }
-        );
-    return worldState.toString();
+  @Override
+  public long advance(long generationsNo, AdvanceControl control) {
+    var advancedNo = 0L;
+    while (advancedNo < generationsNo && !control.isCancelled()) {
+      advanceFrontier();
+      advancedNo++;
+      control.onProgress(advancedNo, generationsNo);
+    }
+    return advancedNo;
+  }
+
+  private void advanceFrontier() {
+    final var changedCellsNo = frontierStepper.step(frontier, frontierSize, changedCells);
+    var diedCellsNo = 0;
+    for (int cellNo = 0; cellNo < changedCellsNo; cellNo++) {
+      diedCellsNo += changedCells[cellNo].getLivingCellsNo();
+      changedCells[cellNo].evolve();
+    }
+    completeGeneration(changedCellsNo, diedCellsNo);
+  }
+
+  private void completeGeneration(int changedCellsNo, int diedCellsNo) {
+    deathsNo = diedCellsNo;
+    birthsNo = changedCellsNo - diedCellsNo;
+    population += birthsNo - deathsNo;
+    frontierSize = 0;
+    frontierMark++;
+    nextGenerationSet = false;
+    for (int cellNo = 0; cellNo < changedCellsNo; cellNo++) {
+      hash ^= zobristKeys[getCellIndex(changedCells[cellNo])];
+      addToFrontier(changedCells[cellNo]);
+      changedCells[cellNo].forEachNeighbour(addToFrontier);
+    }
+    if (!diffListeners.isEmpty()) {
+      publishDiff(changedCellsNo);
+    }
+  }
+
+  /**
+   * Method subscribing listener to diffs of generations. Diff of a generation is built from
+   * cells which changed while evolving, so its cost is proportional to the change.
+   * Cells changed with setCell are not part of any diff.
+   *
+   * @param listener listener notified after each evolution to the next generation.
+   * @return subscription which cancels notifications of the listener.
+   */
+  public Subscription subscribe(GenerationDiffListener listener) {
+    diffListeners.add(listener);
+    return () -> diffListeners.remove(listener);
+  }
+
+  private void publishDiff(int changedCellsNo) {
+    final var diedAndBorn = new long[][] {new long[(int) deathsNo], new long[(int) birthsNo]};
+    final var diedAndBornNo = new int[diedAndBorn.length];
+    for (int cellNo = 0; cellNo < changedCellsNo; cellNo++) {
+      var state = changedCells[cellNo].getLivingCellsNo();
+      diedAndBorn[state][diedAndBornNo[state]++] = changedCells[cellNo].getPoint().toKey();
+    }
+    var diff = new GenerationDiff(diedAndBorn[Rule.ALIVE_STATE], diedAndBorn[Rule.DEAD_STATE],
+        population);
+    diffListeners.forEach(listener -> listener.onGeneration(diff));
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 otherwise.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  public int getCell(int coordinateX, int coordinateY) {
+    return cellIndex[getCellIndex(coordinateX, coordinateY)].getLivingCellsNo();
+  }
+
+  /**
+   * Method setting state of a cell of initialized world, given as a number, 1 for alive cell
+   * and 0 for dead cell. The cell and its neighbours are evaluated in the next generation.
+   * When the next generation is already set, future states of the cell and its neighbours
+   * are established again, so evolving to the next generation takes the change into account.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    final var index = getCellIndex(coordinateX, coordinateY);
+    var cell = cellIndex[index];
+    population += state - cell.getLivingCellsNo();
+    hash ^= zobristKeys[index] & -(state ^ cell.getLivingCellsNo());
+    cell.setCurrentState(knownStates.getKnownState(state));
+    addToFrontier(cell);
+    cell.forEachNeighbour(addToFrontier);
+    if (nextGenerationSet) {
+      cell.setNextGeneration();
+      cell.forEachNeighbour(Cell::setNextGeneration);
+    }
+  }
+
+  /**
+   * Method returning number of cells evaluated in the next generation.
+   *
+   * @return number of cells in the frontier.
+   */
+  public int getFrontierSize() {
+    return frontierSize;
+  }
+
+  /**
+   * Method returning number of alive cells, kept up to date as cells evolve.
+   *
+   * @return number of alive cells in the current generation.
+   */
+  public long getPopulation() {
+    return population;
+  }
+
+  /**
+   * Method returning number of cells born when evolving to the current generation.
+   *
+   * @return number of dead cells which became alive in the last generation.
+   */
+  public long getBirthsNo() {
+    return birthsNo;
+  }
+
+  /**
+   * Method returning number of cells which died when evolving to the current generation.
+   *
+   * @return number of alive cells which became dead in the last generation.
+   */
+  public long getDeathsNo() {
+    return deathsNo;
+  }
+
+  /**
+   * Method returning Zobrist hash of the current generation: exclusive or of keys of alive
+   * cells. Worlds of the same size with the same alive cells have the same hash.
+   *
+   * @return 64-bit hash of alive cells.
+   */
+  public long getHash() {
+    return hash;
+  }
+
+  /**
+   * Method appending representation of cells in world matrix to the given output,
+   * reading cells directly from the index. World does not use the GridWorldEngine defaults,
+   * as its cells may be in the unknown state, which is presented by the state itself
+   * rather than as alive or dead cell.
+   *
+   * @param output destination of the representation.
+   * @throws IOException when output cannot be written.
+   */
+  @Override
+  public void appendRepresentation(Appendable output) throws IOException {
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < maxRowNo; coordinateY++) {
+        output.append(cellIndex[getCellIndex(coordinateX, coordinateY)].display());
+        output.append(CellRepresentation.STATE_SEPARATOR);
+      }
+      output.append(CellRepresentation.ROW_SEPARATOR);
+    }
   }
 }
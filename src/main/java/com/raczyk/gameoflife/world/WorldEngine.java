@@ -0,0 +1,117 @@
+package com.raczyk.gameoflife.world;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Interface representing engine which stores cells of the world and evolves them.
+ * It allows to switch between world implementations without changing the code which drives them.
+ */
+public interface WorldEngine {
+
+  /**
+   * Method initializing world with cells in random states.
+   *
+   * @param random object used to generate random states of cells.
+   */
+  void initWorld(Random random);
+
+  /**
+   * Method establishing next generation of cells without changing the current one.
+   */
+  void setNextGeneration();
+
+  /**
+   * Method evolving cells to the generation established by setNextGeneration method.
+   */
+  void evolveToNextGeneration();
+
+  /**
+   * Method advancing world by given number of generations.
+   *
+   * @param generationsNo number of generations, not negative.
+   */
+  default void advance(long generationsNo) {
+    advance(generationsNo, AdvanceControl.NONE);
+  }
+
+  /**
+   * Method advancing world by given number of generations unless it is cancelled.
+   * Cancellation is checked before each step and progress is reported after it.
+   * Engines override the method to step without going through setNextGeneration and
+   * evolveToNextGeneration for each generation.
+   *
+   * @param generationsNo number of generations, not negative.
+   * @param control control deciding about cancellation and receiving progress.
+   * @return number of generations advanced, smaller than requested when cancelled.
+   */
+  default long advance(long generationsNo, AdvanceControl control) {
+    var advancedNo = 0L;
+    while (advancedNo < generationsNo && !control.isCancelled()) {
+      setNextGeneration();
+      evolveToNextGeneration();
+      advancedNo++;
+      control.onProgress(advancedNo, generationsNo);
+    }
+    return advancedNo;
+  }
+
+  /**
+   * Method appending representation of cells in the world, line by line, to the given output.
+   * Cells are written directly, so memory used does not depend on the world size.
+   *
+   * @param output destination of the representation, for example Writer or StringBuilder.
+   * @throws IOException when output cannot be written.
+   */
+  void appendRepresentation(Appendable output) throws IOException;
+
+  /**
+   * Method returning String representing state of cells in the world.
+   *
+   * @return String presenting current world state.
+   */
+  default String getWorldRepresentation() {
+    var worldState = new StringBuilder();
+    appendUnchecked(this, worldState);
+    return worldState.toString();
+  }
+
+  /**
+   * Method writing representation of cells in the world as US-ASCII bytes to the given stream.
+   * Stream is flushed, but not closed.
+   *
+   * @param outputStream destination of the representation.
+   * @throws IOException when stream cannot be written.
+   */
+  default void writeRepresentation(OutputStream outputStream) throws IOException {
+    var writer = new BufferedWriter(new OutputStreamWriter(outputStream,
+        StandardCharsets.US_ASCII));
+    appendRepresentation(writer);
+    writer.flush();
+  }
+
+  /**
+   * Method putting representation of cells in the world as US-ASCII bytes into the given buffer,
+   * starting at its position.
+   *
+   * @param buffer destination of the representation.
+   * @throws java.nio.BufferOverflowException when representation does not fit in the buffer.
+   */
+  default void putRepresentation(ByteBuffer buffer) {
+    appendUnchecked(this, new ByteBufferAppendable(buffer));
+  }
+
+  private static void appendUnchecked(WorldEngine world, Appendable output) {
+    try {
+      world.appendRepresentation(output);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
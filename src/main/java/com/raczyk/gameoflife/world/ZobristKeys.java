@@ -0,0 +1,25 @@
+package com.raczyk.gameoflife.world;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class generating Zobrist keys, one random 64-bit word per cell.
+ * Keys are drawn from a generator with a fixed seed, so every world of the same size uses
+ * the same keys and equal generations of different worlds have equal hashes.
+ */
+public final class ZobristKeys {
+  private static final long SEED = 0x5DEECE66DL;
+
+  private ZobristKeys() {
+  }
+
+  /**
+   * Method generating keys for given number of cells.
+   *
+   * @param cellsNo number of cells.
+   * @return array of keys indexed like cells of the world.
+   */
+  public static long[] generate(int cellsNo) {
+    return new SplittableRandom(SEED).longs(cellsNo).toArray();
+  }
+}
@@ -0,0 +1,168 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.init.BulkInitializer;
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class representing world build with matrix of cells packed into bits.
+ * Each generation is stored in a BitGrid, one bit per cell, and the next generation is
+ * computed by BitLifeKernel for 64 cells at once. Edges are joined with any Topology
+ * by filling the halo of the grid, so with the same rule and topology the world evolves
+ * exactly as World does.
+ */
+public class BitBoardWorld implements GridWorldEngine {
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final Rule rule;
+  private final GenerationStepper generationStepper;
+  private final Topology topology;
+  private BitGrid currentGeneration;
+  private BitGrid nextGeneration;
+  private long generation;
+
+  /**
+   * Constructs a world represented as matrix of dead cells with
+   * given number of columns and rows passed as parameter, evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public BitBoardWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with
+   * given number of columns and rows passed as parameter, evolving with given rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   */
+  public BitBoardWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    this(maxColumnNo, maxRowNo, rule, new SequentialStepper());
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with given number of columns
+   * and rows passed as parameter, evolving with given rule and computing generations
+   * with given stepper, for example ForkJoinStepper to use many threads.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param generationStepper strategy of computing next generation.
+   */
+  public BitBoardWorld(int maxColumnNo, int maxRowNo, Rule rule,
+                       GenerationStepper generationStepper) {
+    this(maxColumnNo, maxRowNo, rule, generationStepper, Topology.BOUNDED);
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with given number of columns
+   * and rows passed as parameter, evolving with given rule and stepper, with edges joined
+   * according to given topology. Halo of ghost cells is filled once per generation.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param generationStepper strategy of computing next generation.
+   * @param topology way edges of the world are joined.
+   */
+  public BitBoardWorld(int maxColumnNo, int maxRowNo, Rule rule,
+                       GenerationStepper generationStepper, Topology topology) {
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.rule = rule;
+    this.generationStepper = generationStepper;
+    this.topology = topology;
+    this.currentGeneration = new BitGrid(maxColumnNo, maxRowNo);
+    this.nextGeneration = new BitGrid(maxColumnNo, maxRowNo);
+  }
+
+  /**
+   * Method initializing world matrix with states generated in bulk, 64 cells per random word,
+   * written directly into the columns of the current generation.
+   *
+   * @param initializer initializer generating states of cells.
+   */
+  public void initWorld(BulkInitializer initializer) {
+    initializer.fill(currentGeneration);
+  }
+
+  /**
+   * Method establishing next generation of cells in the second matrix,
+   * leaving the current generation untouched.
+   */
+  @Override
+  public void setNextGeneration() {
+    currentGeneration.fillHalo(topology);
+    generationStepper.step(rule, currentGeneration, nextGeneration);
+    currentGeneration.clearHalo();
+  }
+
+  /**
+   * Method evolving cells to the new generation by swapping matrices.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    var previousGeneration = currentGeneration;
+    currentGeneration = nextGeneration;
+    nextGeneration = previousGeneration;
+    generation++;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return currentGeneration.getCell(coordinateX, coordinateY);
+  }
+
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    currentGeneration.setCell(coordinateX, coordinateY, state);
+  }
+
+  /**
+   * Method returning matrix holding current generation of cells.
+   * Changes made to the returned matrix are visible in the world.
+   *
+   * @return matrix with current generation of cells.
+   */
+  public BitGrid getCurrentGeneration() {
+    return currentGeneration;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  public Topology getTopology() {
+    return topology;
+  }
+
+  /**
+   * Method returning number of generations the world evolved since it was created,
+   * including generations restored from a snapshot.
+   *
+   * @return number of the current generation.
+   */
+  public long getGeneration() {
+    return generation;
+  }
+
+  void setGeneration(long generation) {
+    this.generation = generation;
+  }
+}
@@ -0,0 +1,214 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.Topology;
+import java.util.Arrays;
+
+/**
+ * Class representing matrix of cells packed into bits of long words.
+ * Each column of the world (cells sharing coordinate x) is stored as a vector of bits
+ * indexed by coordinate y, so one word holds 64 cells. Columns are surrounded by guard words
+ * and the matrix is surrounded by guard columns. Guards hold the halo of ghost cells seen beyond
+ * edges of the world, dead unless filled according to a topology, which allows neighbour words
+ * to be read without any boundary checks.
+ */
+public final class BitGrid {
+  private static final int GUARD_WORDS = 2;
+  private static final int WORD_INDEX_SHIFT = 6;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final int wordsPerColumn;
+  private final int stride;
+  private final long[] words;
+
+  /**
+   * Constructs a matrix of dead cells with given number of columns and rows.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public BitGrid(int maxColumnNo, int maxRowNo) {
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.wordsPerColumn = (maxRowNo + Long.SIZE - 1) / Long.SIZE;
+    this.stride = wordsPerColumn + GUARD_WORDS;
+    this.words = new long[stride * (maxColumnNo + GUARD_WORDS)];
+  }
+
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  public int getWordsPerColumn() {
+    return wordsPerColumn;
+  }
+
+  /**
+   * Method returning distance between the same words of two neighbour columns.
+   *
+   * @return number of words stored for each column including its guard words.
+   */
+  public int getStride() {
+    return stride;
+  }
+
+  /**
+   * Method returning index of the first word of given column in the array of words.
+   *
+   * @param coordinateX column of the matrix.
+   * @return index of the word holding cell with coordinates (coordinateX, 0).
+   */
+  public int getColumnOffset(int coordinateX) {
+    return (coordinateX + 1) * stride + 1;
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX column of the cell.
+   * @param coordinateY row of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  public int getCell(int coordinateX, int coordinateY) {
+    return (int) (words[getWordIndex(coordinateX, coordinateY)] >>> coordinateY) & 1;
+  }
+
+  public boolean isAlive(int coordinateX, int coordinateY) {
+    return getCell(coordinateX, coordinateY) == 1;
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX column of the cell.
+   * @param coordinateY row of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    var index = getWordIndex(coordinateX, coordinateY);
+    var bit = 1L << coordinateY;
+    words[index] = (words[index] & ~bit) | (-(long) (state & 1) & bit);
+  }
+
+  /**
+   * Method copying words of a column into the given array.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @param column array of at least wordsPerColumn words where the column is copied.
+   */
+  public void getColumn(int coordinateX, long[] column) {
+    System.arraycopy(words, getColumnOffset(coordinateX), column, 0, wordsPerColumn);
+  }
+
+  /**
+   * Method replacing words of a column with words from the given array.
+   * Bits beyond the last row are cleared.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @param column array of at least wordsPerColumn words copied to the column.
+   */
+  public void setColumn(int coordinateX, long[] column) {
+    final var offset = getColumnOffset(coordinateX);
+    final var lastWordNo = wordsPerColumn - 1;
+    System.arraycopy(column, 0, words, offset, wordsPerColumn);
+    words[offset + lastWordNo] &= getWordMask(lastWordNo);
+  }
+
+  /**
+   * Method returning the number of alive cells in the matrix.
+   *
+   * @return number of alive cells.
+   */
+  public long getPopulation() {
+    var population = 0L;
+    final var lastWordNo = wordsPerColumn - 1;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var offset = getColumnOffset(coordinateX);
+      for (int wordNo = 0; wordNo < lastWordNo; wordNo++) {
+        population += Long.bitCount(words[offset + wordNo]);
+      }
+      population += Long.bitCount(words[offset + lastWordNo] & getWordMask(lastWordNo));
+    }
+    return population;
+  }
+
+  /**
+   * Method filling halo of ghost cells around the matrix according to the topology.
+   * First and last rows of each column are copied in front of and behind the column they are
+   * seen from, then whole columns, including their ghost cells, are copied beyond the left and
+   * right edge. With bounded topology the halo is cleared. When the number of rows is not
+   * a multiple of 64, the ghost cell behind a column lies in unused bits of its last word,
+   * so clearHalo method has to be called before the matrix is read as a whole again.
+   *
+   * @param topology way edges of the world are joined.
+   */
+  public void fillHalo(Topology topology) {
+    final var lastRow = maxRowNo - 1;
+    final var trailingWordNo = maxRowNo >>> WORD_INDEX_SHIFT;
+    final var trailingBit = maxRowNo & (Long.SIZE - 1);
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var source = topology.getWrappedRowColumnSource(coordinateX, maxColumnNo);
+      var lastCell = source == Topology.NO_SOURCE ? 0L : getCell(source, lastRow);
+      var firstCell = source == Topology.NO_SOURCE ? 0L : getCell(source, 0);
+      var offset = getColumnOffset(coordinateX);
+      words[offset - 1] = lastCell << (Long.SIZE - 1);
+      var trailingIndex = offset + trailingWordNo;
+      words[trailingIndex] = (words[trailingIndex] & ~(1L << trailingBit))
+          | (firstCell << trailingBit);
+    }
+    fillHaloColumn(topology, -1);
+    fillHaloColumn(topology, maxColumnNo);
+  }
+
+  /**
+   * Method clearing ghost cells stored in unused bits of the last word of each column.
+   */
+  public void clearHalo() {
+    final var lastWordNo = wordsPerColumn - 1;
+    final var lastWordMask = getWordMask(lastWordNo);
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      words[getColumnOffset(coordinateX) + lastWordNo] &= lastWordMask;
+    }
+  }
+
+  /**
+   * Method killing all cells in the matrix.
+   */
+  public void clear() {
+    Arrays.fill(words, 0L);
+  }
+
+  /**
+   * Method returning mask of bits which represent existing cells in given word of a column.
+   * Only the last word of a column can contain bits beyond the last row.
+   *
+   * @param wordNo index of the word within a column.
+   * @return mask with bits set for existing cells.
+   */
+  public long getWordMask(int wordNo) {
+    var bitsBeyondLastRow = Math.max(0, (wordNo + 1) * Long.SIZE - maxRowNo);
+    return -1L >>> bitsBeyondLastRow;
+  }
+
+  long[] getWords() {
+    return words;
+  }
+
+  private void fillHaloColumn(Topology topology, int haloColumn) {
+    var source = topology.getHaloColumnSource(haloColumn, maxColumnNo);
+    var haloStart = getColumnOffset(haloColumn) - 1;
+    if (source == Topology.NO_SOURCE) {
+      Arrays.fill(words, haloStart, haloStart + stride, 0L);
+      return;
+    }
+    System.arraycopy(words, getColumnOffset(source) - 1, words, haloStart, stride);
+  }
+
+  private int getWordIndex(int coordinateX, int coordinateY) {
+    return getColumnOffset(coordinateX) + (coordinateY >>> WORD_INDEX_SHIFT);
+  }
+}
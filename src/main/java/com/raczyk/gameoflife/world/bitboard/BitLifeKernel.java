@@ -0,0 +1,119 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class computing next generation of 64 cells at once.
+ * Neighbours of all cells in a word are counted with bit-sliced full adders, so there is
+ * neither a branch nor an object per cell. Rule is applied to the resulting bits of the
+ * neighbour count.
+ */
+public final class BitLifeKernel {
+
+  private static final int LAST_BIT = Long.SIZE - 1;
+
+  private BitLifeKernel() {
+  }
+
+  /**
+   * Method computing next generation of columns from the given range.
+   * Columns outside of the range are not changed in target matrix.
+   *
+   * @param rule rule applied to cells.
+   * @param source matrix with current generation of cells.
+   * @param target matrix of the same size where next generation is written.
+   * @param fromColumn first column to compute (inclusive).
+   * @param toColumn last column to compute (exclusive).
+   */
+  public static void step(Rule rule, BitGrid source, BitGrid target,
+                          int fromColumn, int toColumn) {
+    final var sourceWords = source.getWords();
+    final var targetWords = target.getWords();
+    final var stride = source.getStride();
+    final var wordsPerColumn = source.getWordsPerColumn();
+    final var lastWordNo = wordsPerColumn - 1;
+    final var lastWordMask = source.getWordMask(lastWordNo);
+    for (int coordinateX = fromColumn; coordinateX < toColumn; coordinateX++) {
+      var offset = source.getColumnOffset(coordinateX);
+      for (int wordNo = 0; wordNo < lastWordNo; wordNo++) {
+        targetWords[offset + wordNo] = evolveWord(rule, sourceWords, offset + wordNo, stride);
+      }
+      targetWords[offset + lastWordNo] =
+          evolveWord(rule, sourceWords, offset + lastWordNo, stride) & lastWordMask;
+    }
+  }
+
+  /**
+   * Method computing next generation of a word stored in array of columns.
+   *
+   * @param rule rule applied to cells.
+   * @param words array of columns including guard words.
+   * @param index index of the word to compute.
+   * @param stride distance between the same words of two neighbour columns.
+   * @return word with next generation of cells.
+   */
+  public static long evolveWord(Rule rule, long[] words, int index, int stride) {
+    final var west = index - stride;
+    final var east = index + stride;
+    return evolve(rule, words[west - 1], words[west], words[west + 1],
+        words[index - 1], words[index], words[index + 1],
+        words[east - 1], words[east], words[east + 1]);
+  }
+
+  /**
+   * Method computing next generation of a word based on words of neighbour cells.
+   * Previous and next words hold cells with lower and higher coordinate y respectively.
+   *
+   * @param rule rule applied to cells.
+   * @param westPrevious previous word of the column on the west.
+   * @param west word of the column on the west.
+   * @param westNext next word of the column on the west.
+   * @param previous previous word of the same column.
+   * @param current word which next generation is computed.
+   * @param next next word of the same column.
+   * @param eastPrevious previous word of the column on the east.
+   * @param east word of the column on the east.
+   * @param eastNext next word of the column on the east.
+   * @return word with next generation of cells.
+   */
+  public static long evolve(Rule rule, long westPrevious, long west, long westNext,
+                            long previous, long current, long next,
+                            long eastPrevious, long east, long eastNext) {
+    final var westNorth = north(west, westPrevious);
+    final var westSouth = south(west, westNext);
+    final var eastNorth = north(east, eastPrevious);
+    final var eastSouth = south(east, eastNext);
+    final var centreNorth = north(current, previous);
+    final var centreSouth = south(current, next);
+
+    final var westOnes = westNorth ^ west ^ westSouth;
+    final var westTwos = majority(westNorth, west, westSouth);
+    final var eastOnes = eastNorth ^ east ^ eastSouth;
+    final var eastTwos = majority(eastNorth, east, eastSouth);
+    final var centreOnes = centreNorth ^ centreSouth;
+    final var centreTwos = centreNorth & centreSouth;
+
+    final var countBit0 = westOnes ^ eastOnes ^ centreOnes;
+    final var onesCarry = majority(westOnes, eastOnes, centreOnes);
+    final var twosSum = westTwos ^ eastTwos ^ centreTwos;
+    final var twosCarry = majority(westTwos, eastTwos, centreTwos);
+    final var countBit1 = twosSum ^ onesCarry;
+    final var fours = twosSum & onesCarry;
+    final var countBit2 = twosCarry ^ fours;
+    final var countBit3 = twosCarry & fours;
+
+    return rule.evolve(countBit0, countBit1, countBit2, countBit3, current);
+  }
+
+  private static long north(long word, long previousWord) {
+    return (word << 1) | (previousWord >>> LAST_BIT);
+  }
+
+  private static long south(long word, long nextWord) {
+    return (word >>> 1) | (nextWord << LAST_BIT);
+  }
+
+  private static long majority(long first, long second, long third) {
+    return (first & second) | (third & (first ^ second));
+  }
+}
@@ -0,0 +1,114 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Class computing next generation in parallel on a ForkJoinPool.
+ * Matrix is split into stripes of neighbouring columns (each column is one line of the world
+ * representation). Every cell of the next generation depends only on the current generation,
+ * so stripes are computed independently and the result is identical to the sequential one.
+ * Closing the stepper shuts down the pool only when the stepper created it.
+ */
+public final class ForkJoinStepper implements GenerationStepper, AutoCloseable {
+  private static final int STRIPES_PER_THREAD = 4;
+
+  private final ForkJoinPool pool;
+  private final int minStripeColumnsNo;
+  private final Runnable poolRelease;
+
+  /**
+   * Constructs a stepper using its own pool with given parallelism level.
+   * The pool is shut down when the stepper is closed.
+   *
+   * @param parallelism number of threads computing stripes at the same time.
+   */
+  public ForkJoinStepper(int parallelism) {
+    this(new ForkJoinPool(parallelism), 1, true);
+  }
+
+  /**
+   * Constructs a stepper using given pool. Matrix is split into a few stripes for each thread
+   * of the pool, but stripes are never narrower than given number of columns.
+   * The pool stays owned by the caller, so closing the stepper does not shut it down.
+   *
+   * @param pool pool on which stripes are computed.
+   * @param minStripeColumnsNo minimal number of columns computed by a single task.
+   */
+  public ForkJoinStepper(ForkJoinPool pool, int minStripeColumnsNo) {
+    this(pool, minStripeColumnsNo, false);
+  }
+
+  private ForkJoinStepper(ForkJoinPool pool, int minStripeColumnsNo, boolean ownedPool) {
+    this.pool = pool;
+    this.minStripeColumnsNo = Math.max(1, minStripeColumnsNo);
+    this.poolRelease = ownedPool ? pool::shutdown : () -> { };
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  @Override
+  public void step(Rule rule, BitGrid source, BitGrid target) {
+    final var columnNo = source.getMaxColumnNo();
+    final var stripesNo = pool.getParallelism() * STRIPES_PER_THREAD;
+    final var stripeColumnsNo = Math.max(minStripeColumnsNo, columnNo / stripesNo);
+    var stripeTasks = IntStream.iterate(0, fromColumn -> fromColumn < columnNo,
+        fromColumn -> fromColumn + stripeColumnsNo)
+        .mapToObj(fromColumn -> new StripeTask(rule, source, target, fromColumn,
+            Math.min(columnNo, fromColumn + stripeColumnsNo)))
+        .collect(Collectors.toList());
+    pool.invoke(new StepTask(stripeTasks));
+  }
+
+  /**
+   * Method shutting down the pool when it was created by the stepper.
+   */
+  @Override
+  public void close() {
+    poolRelease.run();
+  }
+
+  private static final class StepTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<StripeTask> stripeTasks;
+
+    private StepTask(List<StripeTask> stripeTasks) {
+      this.stripeTasks = stripeTasks;
+    }
+
+    @Override
+    protected void compute() {
+      invokeAll(stripeTasks);
+    }
+  }
+
+  private static final class StripeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Rule rule;
+    private final transient BitGrid source;
+    private final transient BitGrid target;
+    private final int fromColumn;
+    private final int toColumn;
+
+    private StripeTask(Rule rule, BitGrid source, BitGrid target, int fromColumn, int toColumn) {
+      this.rule = rule;
+      this.source = source;
+      this.target = target;
+      this.fromColumn = fromColumn;
+      this.toColumn = toColumn;
+    }
+
+    @Override
+    protected void compute() {
+      BitLifeKernel.step(rule, source, target, fromColumn, toColumn);
+    }
+  }
+}
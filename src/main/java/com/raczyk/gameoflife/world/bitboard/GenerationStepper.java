@@ -0,0 +1,19 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Interface representing strategy of computing next generation of the whole matrix of cells.
+ * Every strategy has to produce exactly the same generation as BitLifeKernel does.
+ */
+public interface GenerationStepper {
+
+  /**
+   * Method computing next generation of all cells.
+   *
+   * @param rule rule applied to cells.
+   * @param source matrix with current generation of cells.
+   * @param target matrix of the same size where next generation is written.
+   */
+  void step(Rule rule, BitGrid source, BitGrid target);
+}
@@ -0,0 +1,14 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class computing next generation of all columns one after another in the calling thread.
+ */
+public final class SequentialStepper implements GenerationStepper {
+
+  @Override
+  public void step(Rule rule, BitGrid source, BitGrid target) {
+    BitLifeKernel.step(rule, source, target, 0, source.getMaxColumnNo());
+  }
+}
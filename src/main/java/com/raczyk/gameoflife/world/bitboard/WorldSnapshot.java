@@ -0,0 +1,150 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Class saving BitBoardWorld to a binary snapshot file and restoring it.
+ * Snapshot starts with a header holding magic number, format version, number of columns
+ * and rows, generation number, rule masks and topology, padded so that columns start
+ * at a multiple of eight bytes. Header is followed by columns of the BitGrid,
+ * each as little endian 64-bit words with one bit per cell, in the same layout as in memory.
+ * File is accessed through memory mapped regions, so columns are copied in bulk between
+ * the grid and the page cache without intermediate buffers. Saved regions are forced
+ * to the storage device before the file is closed, so a snapshot survives a crash.
+ */
+public final class WorldSnapshot {
+  static final int MAGIC = 0x474F4C53;
+  static final int VERSION = 2;
+  static final int HEADER_SIZE = 40;
+
+  private static final long MAX_REGION_SIZE = 1L << 30;
+  private static final long MAX_GRID_WORDS = Integer.MAX_VALUE - 8;
+  private static final int GUARD_WORDS = 2;
+
+  private WorldSnapshot() {
+  }
+
+  /**
+   * Method saving current generation of the world to the file, replacing its content.
+   *
+   * @param world world to save.
+   * @param path file where snapshot is written.
+   * @throws IOException when file cannot be written.
+   */
+  public static void save(BitBoardWorld world, Path path) throws IOException {
+    var grid = world.getCurrentGeneration();
+    try (var channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      var mappedHeader = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      mappedHeader.order(ByteOrder.LITTLE_ENDIAN)
+          .putInt(MAGIC)
+          .putInt(VERSION)
+          .putInt(grid.getMaxColumnNo())
+          .putInt(grid.getMaxRowNo())
+          .putLong(world.getGeneration())
+          .putInt(world.getRule().getBirthMask())
+          .putInt(world.getRule().getSurvivalMask())
+          .putInt(world.getTopology().ordinal());
+      transferColumns(channel, FileChannel.MapMode.READ_WRITE, grid, LongBuffer::put,
+          MappedByteBuffer::force);
+      mappedHeader.force();
+    }
+  }
+
+  /**
+   * Method restoring world saved in the file.
+   *
+   * @param path file with snapshot.
+   * @return world with cells, rule, topology and generation number read from the snapshot.
+   * @throws IOException when file cannot be read or it is not a snapshot of supported version.
+   */
+  public static BitBoardWorld load(Path path) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException("File too short to be a world snapshot: " + path);
+      }
+      var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      if (header.getInt() != MAGIC) {
+        throw new IOException("File is not a world snapshot: " + path);
+      }
+      var version = header.getInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported world snapshot version " + version + ": " + path);
+      }
+      var maxColumnNo = header.getInt();
+      var maxRowNo = header.getInt();
+      var generation = header.getLong();
+      var rule = Rule.of(header.getInt(), header.getInt());
+      var topology = readTopology(header.getInt(), path);
+      checkDimensions(channel.size(), maxColumnNo, maxRowNo, path);
+      var world = new BitBoardWorld(maxColumnNo, maxRowNo, rule, new SequentialStepper(),
+          topology);
+      transferColumns(channel, FileChannel.MapMode.READ_ONLY, world.getCurrentGeneration(),
+          LongBuffer::get, region -> { });
+      world.setGeneration(generation);
+      return world;
+    }
+  }
+
+  private static Topology readTopology(int topologyNo, Path path) throws IOException {
+    var topologies = Topology.values();
+    if (topologyNo < 0 || topologyNo >= topologies.length) {
+      throw new IOException("World snapshot has unknown topology " + topologyNo + ": " + path);
+    }
+    return topologies[topologyNo];
+  }
+
+  private static void checkDimensions(long fileSize, int maxColumnNo, int maxRowNo, Path path)
+      throws IOException {
+    if (maxColumnNo < 0 || maxRowNo < 0) {
+      throw new IOException("World snapshot has negative dimensions " + maxColumnNo + "x"
+          + maxRowNo + ": " + path);
+    }
+    final var wordsPerColumn = (maxRowNo + Long.SIZE - 1L) / Long.SIZE;
+    if ((wordsPerColumn + GUARD_WORDS) * (maxColumnNo + GUARD_WORDS) > MAX_GRID_WORDS) {
+      throw new IOException("World snapshot too large to be restored: " + path);
+    }
+    if (fileSize != HEADER_SIZE + maxColumnNo * wordsPerColumn * Long.BYTES) {
+      throw new IOException("World snapshot has unexpected size: " + path);
+    }
+  }
+
+  private static void transferColumns(FileChannel channel, FileChannel.MapMode mode,
+                                      BitGrid grid, ColumnTransfer columnTransfer,
+                                      Consumer<MappedByteBuffer> regionCompletion)
+      throws IOException {
+    final var words = grid.getWords();
+    final var wordsPerColumn = grid.getWordsPerColumn();
+    final var columnsPerRegion = (int) Math.max(1L,
+        MAX_REGION_SIZE / Math.max(Long.BYTES, getColumnsSize(grid, 1)));
+    for (int fromColumn = 0; fromColumn < grid.getMaxColumnNo(); fromColumn += columnsPerRegion) {
+      var toColumn = Math.min(grid.getMaxColumnNo(), fromColumn + columnsPerRegion);
+      var mappedRegion = channel.map(mode, HEADER_SIZE + getColumnsSize(grid, fromColumn),
+          getColumnsSize(grid, toColumn - fromColumn));
+      var region = mappedRegion.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+      for (int coordinateX = fromColumn; coordinateX < toColumn; coordinateX++) {
+        columnTransfer.transfer(region, words, grid.getColumnOffset(coordinateX), wordsPerColumn);
+      }
+      regionCompletion.accept(mappedRegion);
+    }
+  }
+
+  private static long getColumnsSize(BitGrid grid, int columnsNo) {
+    return (long) columnsNo * grid.getWordsPerColumn() * Long.BYTES;
+  }
+
+  private interface ColumnTransfer {
+    void transfer(LongBuffer region, long[] words, int offset, int wordsNo);
+  }
+}
@@ -1,23 +1,26 @@
 package com.raczyk.gameoflife.world.cell;
 
 import com.raczyk.gameoflife.world.Point;
-import com.raczyk.gameoflife.world.cell.state.AliveCellState;
+import com.raczyk.gameoflife.world.PointKey;
 import com.raczyk.gameoflife.world.cell.state.CellState;
 import com.raczyk.gameoflife.world.cell.state.UnknownCellState;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Class representing cell existing in the world.
  */
 public class Cell {
+  private static final CellState UNKNOWN_STATE = new UnknownCellState();
+  private static final Cell[] NO_NEIGHBOURS = new Cell[0];
+
   private final Point point;
   private CellState currentState;
   private CellState futureState;
-  private List<Cell> neighbours;
+  private Cell[] neighbours;
 
   /**
    * Constructs a cell in a certain Point of the world matrix and with given state.
@@ -27,9 +30,13 @@ public class Cell {
    */
   public Cell(Point point) {
     this.point = point;
-    this.currentState = new UnknownCellState(this);
-    this.futureState = new UnknownCellState(this);
-    this.neighbours = new ArrayList<>();
+    this.currentState = UNKNOWN_STATE;
+    this.futureState = UNKNOWN_STATE;
+    this.neighbours = NO_NEIGHBOURS;
+  }
+
+  public Point getPoint() {
+    return point;
   }
 
   public void setCurrentState(CellState currentState) {
@@ -41,17 +48,36 @@ public class Cell {
   }
 
   /**
-   * Method setting the list of neighbour cells base on cell's point.
+   * Method setting the array of neighbour cells base on cell's point.
+   * Each neighbour point is looked up directly in the world, so the cost does not depend
+   * on the world size. Points which do not exist in the world are skipped.
    *
    * @param world Map representing Points in the world matrix and corresponding cells.
    *
    */
   public void setNeighbours(Map<Point, Cell> world) {
-    var neighbourPoints = point.getNeighbourPoints();
-    this.neighbours = world.entrySet().stream()
-        .filter(pointCellEntry -> neighbourPoints.contains(pointCellEntry.getKey()))
-        .map(Map.Entry::getValue)
-        .collect(Collectors.toList());
+    setNeighbours(world, UnaryOperator.identity());
+  }
+
+  /**
+   * Method setting the array of neighbour cells base on cell's point, mapped before the lookup,
+   * for example to join edges of the world. Points which do not exist in the world are skipped.
+   *
+   * @param world Map representing Points in the world matrix and corresponding cells.
+   * @param pointMapper function mapping neighbour point to the point of the neighbour cell.
+   */
+  public void setNeighbours(Map<Point, Cell> world, UnaryOperator<Point> pointMapper) {
+    final var key = point.toKey();
+    var foundNeighbours = new Cell[PointKey.NEIGHBOURS_NO];
+    var foundNeighboursNo = 0;
+    for (int neighbourNo = 0; neighbourNo < PointKey.NEIGHBOURS_NO; neighbourNo++) {
+      var neighbour = world.get(pointMapper.apply(
+          Point.fromKey(PointKey.getNeighbourKey(key, neighbourNo))));
+      if (neighbour != null) {
+        foundNeighbours[foundNeighboursNo++] = neighbour;
+      }
+    }
+    this.neighbours = Arrays.copyOf(foundNeighbours, foundNeighboursNo);
   }
 
   /**
@@ -61,25 +87,58 @@ public class Cell {
    *
    */
   public long getLivingNeighboursNo() {
-    return neighbours.stream()
-        .filter(neighbour -> neighbour.currentState instanceof AliveCellState)
-        .count();
+    var livingNeighbours = 0L;
+    for (Cell neighbour : neighbours) {
+      livingNeighbours += neighbour.currentState.getLivingCellsNo();
+    }
+    return livingNeighbours;
+  }
+
+  /**
+   * Method returning number of living cells represented by the current state of this cell.
+   *
+   * @return 1 for alive cell, 0 otherwise.
+   */
+  public int getLivingCellsNo() {
+    return currentState.getLivingCellsNo();
   }
 
   /**
    * Method setting future state of a cell.
    */
   public void setNextGeneration() {
-    this.futureState = currentState.determineFutureState();
+    this.futureState = currentState.determineFutureState(this);
+  }
+
+  /**
+   * Method checking whether established future state differs from the current state.
+   * Known states are flyweights, so the states are compared by identity.
+   *
+   * @return true when evolving the cell changes its state.
+   */
+  public boolean isChanging() {
+    return futureState != currentState;
+  }
+
+  /**
+   * Method passing each neighbour cell to the given action.
+   *
+   * @param action action performed for each neighbour cell.
+   */
+  public void forEachNeighbour(Consumer<Cell> action) {
+    for (Cell neighbour : neighbours) {
+      action.accept(neighbour);
+    }
   }
 
   /**
    * Method which evolves cell into next generation.
    * It changes the current state of a cell with a future state.
+   * Future state is reset to the shared unknown state, so nothing is created.
    */
   public void evolve() {
     currentState = futureState;
-    futureState = new UnknownCellState(this);
+    futureState = UNKNOWN_STATE;
   }
 
   /**
@@ -104,7 +163,7 @@ public class Cell {
     return Objects.equals(point, cell.point)
         && Objects.equals(currentState.getState(), cell.currentState.getState())
         && Objects.equals(futureState.getState(), cell.futureState.getState())
-        && Objects.equals(neighbours.size(), cell.neighbours.size());
+        && neighbours.length == cell.neighbours.length;
   }
 
   @Override
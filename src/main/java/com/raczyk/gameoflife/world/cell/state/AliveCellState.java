@@ -1,48 +1,55 @@
 package com.raczyk.gameoflife.world.cell.state;
 
 import com.raczyk.gameoflife.world.cell.Cell;
-import java.util.List;
-import java.util.Map;
+import com.raczyk.gameoflife.world.rule.Rule;
 import java.util.Objects;
-import java.util.function.Supplier;
 
 /**
  * Class representing state of a cell which lives.
- * It contains constants of possible sub-environments states:
- *  - underpopulation (when only 0 or 1 neighbour cell is alive)
- *  - overpopulation (when more than 3 neighbour cells are alive)
- *  - normal (when 2 or 3 neighbour cells are alive.
+ * Possible sub-environments states are taken from the rule:
+ *  - death (with Conway's rule when 0 or 1 neighbour cell is alive - underpopulation,
+ *    or more than 3 neighbour cells are alive - overpopulation)
+ *  - normal (with Conway's rule when 2 or 3 neighbour cells are alive.
  *    This sub-environment state does not change cell state).
  * Based on sub-environment state, state of a cell is changed respectively.
+ * The state does not belong to any cell, so it is shared by all alive cells of a world.
  */
 public final class AliveCellState extends KnownState {
 
-  private static final List<Long> UNDERPOPULATION = List.of(0L, 1L);
-  private static final List<Long> OVERPOPULATION = List.of(4L, 5L, 6L, 7L, 8L);
-  private static final List<Long> NORMAL = List.of(2L, 3L);
-
-  private final Cell cell;
-  private final Map<List<Long>, Supplier<CellState>> environmentStateRuleMap;
+  private final CellState deadCellState;
+  private final CellState[] futureStateTable;
   private final State state;
 
   /**
    * Initializes a newly created AliveCellState object so that it represents
-   * the alive state of a cell passed as a parameter.
+   * the alive state of cells evolving with Conway's rule.
+   */
+  public AliveCellState() {
+    this(Rule.CONWAY);
+  }
+
+  /**
+   * Initializes a newly created AliveCellState object so that it represents
+   * the alive state of cells evolving with given rule.
    *
-   * @param cell cell which state is represented by this class.
+   * @param rule rule deciding about future state of cells.
    *
    */
-  public AliveCellState(Cell cell) {
-    this.cell = cell;
-    this.environmentStateRuleMap = Map.of(NORMAL, () -> createAliveCellState(cell),
-        UNDERPOPULATION, () -> createDeadCellState(cell),
-        OVERPOPULATION, () -> createDeadCellState(cell));
+  public AliveCellState(Rule rule) {
     this.state = State.ALIVE;
+    this.deadCellState = new DeadCellState(this, rule);
+    this.futureStateTable = createFutureStateTable(rule);
+  }
+
+  AliveCellState(DeadCellState deadCellState, Rule rule) {
+    this.state = State.ALIVE;
+    this.deadCellState = deadCellState;
+    this.futureStateTable = createFutureStateTable(rule);
   }
 
   @Override
-  public CellState determineFutureState() {
-    return getFutureState(this.cell, this.environmentStateRuleMap);
+  public CellState determineFutureState(Cell cell) {
+    return getFutureState(cell, this.futureStateTable);
   }
 
   @Override
@@ -60,15 +67,15 @@ public final class AliveCellState extends KnownState {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    AliveCellState that = (AliveCellState) o;
-    return Objects.equals(cell, that.cell);
+    return o != null && getClass() == o.getClass();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(cell);
+    return Objects.hash(state);
+  }
+
+  private CellState[] createFutureStateTable(Rule rule) {
+    return createFutureStateTable(rule, Rule.ALIVE_STATE, deadCellState, this);
   }
 }
@@ -1,5 +1,7 @@
 package com.raczyk.gameoflife.world.cell.state;
 
+import com.raczyk.gameoflife.world.cell.Cell;
+
 /**
  * Interface representing state of the cell.
  * It allows to establish new state base on current one and neighbour states.
@@ -8,8 +10,12 @@ public interface CellState {
 
   /**
    * Method responsible for evaluating the future state of a cell.
+   * States are shared by many cells, so the evaluated cell is passed as a parameter.
+   *
+   * @param cell cell which future state is evaluated.
+   * @return future state of the cell.
    */
-  CellState determineFutureState();
+  CellState determineFutureState(Cell cell);
 
   /**
    * Method responsible for returning a String representing cell state.
@@ -24,4 +30,14 @@ public interface CellState {
    * @return State enum representation of cell state.
    */
   State getState();
+
+  /**
+   * Method returning number of living cells represented by the state.
+   * It allows to count living cells without checking type of their states.
+   *
+   * @return 1 for alive state, 0 otherwise.
+   */
+  default int getLivingCellsNo() {
+    return getState().getLivingCellsNo();
+  }
 }
@@ -1,45 +1,58 @@
 package com.raczyk.gameoflife.world.cell.state;
 
 import com.raczyk.gameoflife.world.cell.Cell;
-import java.util.List;
-import java.util.Map;
+import com.raczyk.gameoflife.world.rule.Rule;
 import java.util.Objects;
-import java.util.function.Supplier;
 
 /**
  * Class representing state of a cell which is dead.
- * It contains constants of possible sub-environments states:
- *  - reproduction (when 3 neighbour cells are alive)
- *  - normal (when the number of living neighbour cells is different than 3.
+ * Possible sub-environments states are taken from the rule:
+ *  - reproduction (with Conway's rule when 3 neighbour cells are alive)
+ *  - normal (with Conway's rule when the number of living neighbour cells is different than 3.
  *    This sub-environment state does not change cell state).
  *  Based on sub-environment state, state of a cell is changed respectively.
+ * The state does not belong to any cell, so it is shared by all dead cells of a world.
  */
 public final class DeadCellState extends KnownState {
 
-  private static final List<Long> REPRODUCTION = List.of(3L);
-  private static final List<Long> NORMAL = List.of(0L, 1L, 2L, 4L, 5L, 6L, 7L, 8L);
-
-  private final Cell cell;
-  private final Map<List<Long>, Supplier<CellState>> environmentStateRuleMap;
+  private final CellState aliveCellState;
+  private final CellState[] futureStateTable;
   private final State state;
 
   /**
    * Initializes a newly created DeadCellState object so that it represents
-   * the state of a cell which is passed as a parameter.
+   * the dead state of cells evolving with Conway's rule.
+   */
+  public DeadCellState() {
+    this(Rule.CONWAY);
+  }
+
+  /**
+   * Initializes a newly created DeadCellState object so that it represents
+   * the dead state of cells evolving with given rule.
    *
-   * @param cell cell which state is represented by this class.
+   * @param rule rule deciding about future state of cells.
    *
    */
-  public DeadCellState(Cell cell) {
-    this.cell = cell;
-    this.environmentStateRuleMap = Map.of(REPRODUCTION, () -> createAliveCellState(cell),
-        NORMAL, () -> createDeadCellState(cell));
+  public DeadCellState(Rule rule) {
+    this.state = State.DEAD;
+    this.aliveCellState = new AliveCellState(this, rule);
+    this.futureStateTable = createFutureStateTable(rule);
+  }
+
+  DeadCellState(AliveCellState aliveCellState, Rule rule) {
     this.state = State.DEAD;
+    this.aliveCellState = aliveCellState;
+    this.futureStateTable = createFutureStateTable(rule);
+  }
+
+  CellState getAliveCellState() {
+    return aliveCellState;
   }
 
   @Override
-  public CellState determineFutureState() {
-    return getFutureState(this.cell, this.environmentStateRuleMap);
+  public CellState determineFutureState(Cell cell) {
+    return getFutureState(cell, this.futureStateTable);
   }
 
   @Override
@@ -49,7 +62,7 @@ public final class DeadCellState extends KnownState {
 
   @Override
   public State getState() {
-    return this.state;
+    return state;
   }
 
   @Override
@@ -57,15 +70,15 @@ public final class DeadCellState extends KnownState {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    DeadCellState that = (DeadCellState) o;
-    return Objects.equals(cell, that.cell);
+    return o != null && getClass() == o.getClass();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(cell);
+    return Objects.hash(state);
+  }
+
+  private CellState[] createFutureStateTable(Rule rule) {
+    return createFutureStateTable(rule, Rule.DEAD_STATE, this, aliveCellState);
   }
 }
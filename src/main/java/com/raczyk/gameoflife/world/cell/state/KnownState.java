@@ -1,29 +1,38 @@
 package com.raczyk.gameoflife.world.cell.state;
 
 import com.raczyk.gameoflife.world.cell.Cell;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Supplier;
+import com.raczyk.gameoflife.world.rule.Rule;
 
 /**
  * Class representing known cell state (alive or dead).
+ * Known states are flyweights: alive and dead state are created once per rule, refer to
+ * each other and are shared by all cells, so evolving a cell switches between them
+ * without creating new objects.
  */
 public abstract class KnownState implements CellState {
 
-  protected CellState getFutureState(Cell cell,
-                                     Map<List<Long>, Supplier<CellState>> envStateRuleMap) {
-    var livingNeighbours = cell.getLivingNeighboursNo();
-    return envStateRuleMap.entrySet().stream()
-        .filter(entry -> entry.getKey().contains(livingNeighbours))
-        .map(entry -> entry.getValue().get())
-        .findFirst().orElse(new UnknownCellState(cell));
+  protected CellState getFutureState(Cell cell, CellState[] futureStateTable) {
+    return futureStateTable[(int) cell.getLivingNeighboursNo()];
   }
 
-  protected CellState createDeadCellState(Cell cell) {
-    return new DeadCellState(cell);
-  }
-
-  protected CellState createAliveCellState(Cell cell) {
-    return new AliveCellState(cell);
+  /**
+   * Method resolving future state for every possible number of living neighbours at once,
+   * by indexing the rule directly. The returned table is indexed with the number of living
+   * neighbours.
+   *
+   * @param rule rule deciding about future state of the cell.
+   * @param state state of the cell in the rule, Rule.ALIVE_STATE or Rule.DEAD_STATE.
+   * @param ruleStates states of the cell indexed with their state in the rule.
+   * @return table of future states indexed with the number of living neighbours.
+   */
+  protected static CellState[] createFutureStateTable(Rule rule, int state,
+                                                      CellState... ruleStates) {
+    var futureStateTable = new CellState[Rule.MAX_NEIGHBOURS_NO + 1];
+    for (int livingNeighboursNo = 0; livingNeighboursNo <= Rule.MAX_NEIGHBOURS_NO;
+        livingNeighboursNo++) {
+      futureStateTable[livingNeighboursNo] = ruleStates[rule.getNextState(state,
+          livingNeighboursNo)];
+    }
+    return futureStateTable;
   }
 }
@@ -1,51 +1,54 @@
 package com.raczyk.gameoflife.world.cell.state;
 
-import com.raczyk.gameoflife.world.cell.Cell;
-import java.util.Map;
+import com.raczyk.gameoflife.world.rule.Rule;
 import java.util.Random;
-import java.util.function.Supplier;
 
 /**
  * Class responsible for generating cell states.
- * It contains map of Suppliers, helping get one of the possible states,
- * based on given KnownStateType enum state.
+ * It creates alive and dead state of a rule once and hands out these shared states,
+ * indexed with the state of a cell in the rule.
  */
 public class KnownStateFactory {
 
-  private final Map<KnownStateType, Supplier<KnownState>> knownStateSupplierMap;
-  private final Random random;
+  private final CellState[] knownStates;
 
   /**
    * Initializes a newly created KnownStateFactory object so that it allows
-   * to get one of the KnownState objects representing provided cell state.
+   * to get one of the KnownState objects evolving with Conway's rule.
+   */
+  public KnownStateFactory() {
+    this(Rule.CONWAY);
+  }
+
+  /**
+   * Initializes a newly created KnownStateFactory object so that it allows
+   * to get one of the KnownState objects evolving with given rule.
    *
-   * @param cell cell which state needs to be established.
-   * @param random object used to generate random state for provided cell.
+   * @param rule rule deciding about future states of cells.
    *
    */
-  public KnownStateFactory(Cell cell, Random random) {
-    this.knownStateSupplierMap = Map.of(
-        KnownStateType.DEAD, () -> new DeadCellState(cell),
-        KnownStateType.ALIVE, () -> new AliveCellState(cell)
-    );
-    this.random = random;
+  public KnownStateFactory(Rule rule) {
+    var deadCellState = new DeadCellState(rule);
+    this.knownStates = new CellState[] {deadCellState, deadCellState.getAliveCellState()};
   }
 
   /**
-   * Method responsible for generating random KnownState object representing provided cell state.
+   * Method responsible for picking random KnownState object.
    *
-   * @return one of KnownState object provided in knownStateSupplierMap supplier.
+   * @param random object used to pick the state.
+   * @return shared dead or alive state.
    */
-  public CellState getRandomKnownState() {
-    return knownStateSupplierMap.get(KnownStateType.getRandom(random)).get();
+  public CellState getRandomKnownState(Random random) {
+    return knownStates[random.nextInt(knownStates.length)];
   }
 
-  private enum KnownStateType {
-    DEAD,
-    ALIVE;
-
-    private static KnownStateType getRandom(Random random) {
-      return values()[random.nextInt(values().length)];
-    }
+  /**
+   * Method returning shared KnownState object representing given state of a cell in the rule.
+   *
+   * @param state Rule.DEAD_STATE or Rule.ALIVE_STATE.
+   * @return shared dead or alive state.
+   */
+  public CellState getKnownState(int state) {
+    return knownStates[state];
   }
 }
@@ -1,17 +1,23 @@
 package com.raczyk.gameoflife.world.cell.state;
 
 enum State {
-  ALIVE("X"),
-  DEAD("#"),
-  UNKNOWN("?");
+  ALIVE("X", 1),
+  DEAD("#", 0),
+  UNKNOWN("?", 0);
 
   private final String representation;
+  private final int livingCellsNo;
 
-  State(String representation) {
+  State(String representation, int livingCellsNo) {
     this.representation = representation;
+    this.livingCellsNo = livingCellsNo;
   }
 
   public String getRepresentation() {
     return representation;
   }
+
+  public int getLivingCellsNo() {
+    return livingCellsNo;
+  }
 }
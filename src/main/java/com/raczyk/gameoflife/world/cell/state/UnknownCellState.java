@@ -6,26 +6,22 @@ import java.util.Objects;
 /**
  * Class representing unknown cell state.
  * Cell in that state cannot be changed with changeState method.
+ * The state does not belong to any cell, so it can be shared by all cells.
  */
 public final class UnknownCellState implements CellState {
 
-  private final Cell cell;
   private final State state;
 
   /**
    * Initializes a newly created UnknownCellState object so that it represents
-   * the unknown state of a cell passed as a parameter.
-   *
-   * @param cell cell which state is represented by this class.
-   *
+   * the unknown state of cells.
    */
-  public UnknownCellState(Cell cell) {
-    this.cell = cell;
+  public UnknownCellState() {
     this.state = State.UNKNOWN;
   }
 
   @Override
-  public CellState determineFutureState() {
+  public CellState determineFutureState(Cell cell) {
     return this;
   }
 
@@ -44,15 +40,11 @@ public final class UnknownCellState implements CellState {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    UnknownCellState that = (UnknownCellState) o;
-    return Objects.equals(cell, that.cell);
+    return o != null && getClass() == o.getClass();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(cell);
+    return Objects.hash(state);
   }
 }
@@ -0,0 +1,40 @@
+package com.raczyk.gameoflife.world.cycle;
+
+/**
+ * Class representing a detected cycle: generation which repeats an earlier one and the number
+ * of generations between them. Period 1 means the world became a still life.
+ */
+public final class Cycle {
+  private static final long STILL_LIFE_PERIOD = 1;
+
+  private final long startGeneration;
+  private final long period;
+
+  /**
+   * Constructs a cycle starting at given generation.
+   *
+   * @param startGeneration first generation of the cycle.
+   * @param period number of generations after which the world repeats itself.
+   */
+  public Cycle(long startGeneration, long period) {
+    this.startGeneration = startGeneration;
+    this.period = period;
+  }
+
+  public long getStartGeneration() {
+    return startGeneration;
+  }
+
+  public long getPeriod() {
+    return period;
+  }
+
+  public boolean isStillLife() {
+    return period == STILL_LIFE_PERIOD;
+  }
+
+  @Override
+  public String toString() {
+    return "Cycle{startGeneration=" + startGeneration + ", period=" + period + '}';
+  }
+}
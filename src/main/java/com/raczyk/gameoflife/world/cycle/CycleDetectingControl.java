@@ -0,0 +1,52 @@
+package com.raczyk.gameoflife.world.cycle;
+
+import com.raczyk.gameoflife.world.AdvanceControl;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Class representing advance control which records hash of each generation in CycleDetector.
+ * It reports the first detected cycle and, when asked to, cancels the advance once the world
+ * has settled, so a still life or an oscillator is not computed until the end of the run.
+ */
+public class CycleDetectingControl implements AdvanceControl {
+  private final LongSupplier hashSource;
+  private final CycleDetector cycleDetector;
+  private final boolean stoppingOnCycle;
+  private Cycle cycle;
+
+  /**
+   * Constructs control recording the current generation as generation 0.
+   *
+   * @param hashSource supplier of hash of the current generation, for example World::getHash.
+   * @param historySize number of remembered generations, which is the longest detected period.
+   * @param stoppingOnCycle true to cancel the advance once a cycle is detected.
+   */
+  public CycleDetectingControl(LongSupplier hashSource, int historySize,
+                               boolean stoppingOnCycle) {
+    this.hashSource = hashSource;
+    this.cycleDetector = new CycleDetector(historySize);
+    this.stoppingOnCycle = stoppingOnCycle;
+    cycleDetector.record(0, hashSource.getAsLong());
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return stoppingOnCycle && cycle != null;
+  }
+
+  @Override
+  public void onProgress(long advancedNo, long generationsNo) {
+    var detectedCycle = cycleDetector.record(advancedNo, hashSource.getAsLong());
+    cycle = cycle == null ? detectedCycle.orElse(null) : cycle;
+  }
+
+  /**
+   * Method returning the first cycle detected during the advance.
+   *
+   * @return detected cycle, empty when generations did not repeat.
+   */
+  public Optional<Cycle> getCycle() {
+    return Optional.ofNullable(cycle);
+  }
+}
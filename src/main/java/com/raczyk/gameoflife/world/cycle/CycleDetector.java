@@ -0,0 +1,51 @@
+package com.raczyk.gameoflife.world.cycle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Class detecting cycles in a sequence of generation hashes.
+ * Only the most recent hashes are remembered, in a ring buffer, so cycles with period
+ * up to the history size are detected in constant memory. Equal 64-bit hashes are taken
+ * as equal generations; a collision is possible but extremely unlikely.
+ */
+public class CycleDetector {
+  private static final long NO_GENERATION = -1;
+
+  private final long[] hashes;
+  private final long[] generations;
+  private final Map<Long, Long> generationsByHash;
+  private int nextSlot;
+
+  /**
+   * Constructs a detector remembering given number of recent generations.
+   *
+   * @param historySize number of remembered generations, which is the longest detected period.
+   */
+  public CycleDetector(int historySize) {
+    this.hashes = new long[historySize];
+    this.generations = new long[historySize];
+    this.generationsByHash = new HashMap<>();
+    Arrays.fill(generations, NO_GENERATION);
+  }
+
+  /**
+   * Method recording hash of the next generation and checking whether it repeats
+   * a remembered one. Generations have to be recorded in order, without gaps.
+   *
+   * @param generation number of the generation.
+   * @param hash hash of the generation.
+   * @return cycle starting at the remembered generation when hash repeats, empty otherwise.
+   */
+  public Optional<Cycle> record(long generation, long hash) {
+    final var startGeneration = generationsByHash.put(hash, generation);
+    generationsByHash.remove(hashes[nextSlot], generations[nextSlot]);
+    hashes[nextSlot] = hash;
+    generations[nextSlot] = generation;
+    nextSlot = (nextSlot + 1) % hashes.length;
+    return Optional.ofNullable(startGeneration)
+        .map(start -> new Cycle(start, generation - start));
+  }
+}
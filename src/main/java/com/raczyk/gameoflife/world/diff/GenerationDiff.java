@@ -0,0 +1,48 @@
+package com.raczyk.gameoflife.world.diff;
+
+/**
+ * Class representing cells which changed their state when a world evolved to a generation.
+ * Coordinates of born and died cells are packed into longs by PointKey and are unpacked
+ * with its getters, so a diff is two primitive arrays whose size is proportional
+ * to the change rather than to the world.
+ */
+public final class GenerationDiff {
+  private final long[] born;
+  private final long[] died;
+  private final long population;
+
+  /**
+   * Constructs a diff from keys of points created by PointKey, which are not copied.
+   *
+   * @param born keys of cells which became alive.
+   * @param died keys of cells which became dead.
+   * @param population number of alive cells after the change.
+   */
+  public GenerationDiff(long[] born, long[] died, long population) {
+    this.born = born;
+    this.died = died;
+    this.population = population;
+  }
+
+  /**
+   * Method returning keys of born cells. The array is shared, not copied.
+   *
+   * @return keys of cells which became alive.
+   */
+  public long[] getBorn() {
+    return born;
+  }
+
+  /**
+   * Method returning keys of died cells. The array is shared, not copied.
+   *
+   * @return keys of cells which became dead.
+   */
+  public long[] getDied() {
+    return died;
+  }
+
+  public long getPopulation() {
+    return population;
+  }
+}
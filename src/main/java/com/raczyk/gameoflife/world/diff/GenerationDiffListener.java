@@ -0,0 +1,16 @@
+package com.raczyk.gameoflife.world.diff;
+
+/**
+ * Interface representing subscriber notified with the diff of each generation of a world.
+ * Listener is called on the thread evolving the world, after the world has evolved.
+ */
+@FunctionalInterface
+public interface GenerationDiffListener {
+
+  /**
+   * Method receiving cells changed by the last generation.
+   *
+   * @param diff born and died cells of the generation.
+   */
+  void onGeneration(GenerationDiff diff);
+}
@@ -0,0 +1,13 @@
+package com.raczyk.gameoflife.world.diff;
+
+/**
+ * Interface representing subscription of a listener, which can be cancelled.
+ */
+@FunctionalInterface
+public interface Subscription {
+
+  /**
+   * Method stopping notifications of the subscribed listener.
+   */
+  void cancel();
+}
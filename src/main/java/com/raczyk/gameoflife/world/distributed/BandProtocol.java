@@ -0,0 +1,56 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Class describing messages exchanged between DistributedWorld and BandWorker.
+ * Each message starts with a command byte. Lines of cells (cells sharing coordinate x) are sent
+ * as words of 64 cells, in the same layout as columns of BitGrid.
+ */
+final class BandProtocol {
+
+  /**
+   * Enum representing commands sent by the coordinator to workers:
+   *  - INIT - number of lines, rows and rule masks followed by lines of the band,
+   *    answered with the first and the last line,
+   *  - NEXT - line preceding and following the band, answered with the first and the last
+   *    line of the next generation,
+   *  - EVOLVE - switching to the next generation, not answered,
+   *  - READ - answered with all lines of the band,
+   *  - CLOSE - stopping the worker.
+   */
+  enum Command {
+    INIT,
+    NEXT,
+    EVOLVE,
+    READ,
+    CLOSE
+  }
+
+  private static final Command[] COMMANDS = Command.values();
+
+  private BandProtocol() {
+  }
+
+  static void writeCommand(DataOutputStream output, Command command) throws IOException {
+    output.writeByte(command.ordinal());
+  }
+
+  static Command readCommand(DataInputStream input) throws IOException {
+    return COMMANDS[input.readUnsignedByte()];
+  }
+
+  static void writeLine(DataOutputStream output, long[] line) throws IOException {
+    for (long word : line) {
+      output.writeLong(word);
+    }
+  }
+
+  static void readLine(DataInputStream input, long[] line) throws IOException {
+    for (int wordNo = 0; wordNo < line.length; wordNo++) {
+      line[wordNo] = input.readLong();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import com.raczyk.gameoflife.world.bitboard.BitLifeKernel;
+import com.raczyk.gameoflife.world.distributed.BandProtocol.Command;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class representing worker which owns a band of lines of a DistributedWorld.
+ * Band is stored in two BitGrids, one per generation. Lines preceding and following the band,
+ * received from the coordinator, are placed in guard columns of the current grid, so the band
+ * is stepped with the same kernel as BitBoardWorld.
+ * Worker runs as a separate process started with port of the coordinator and its number.
+ */
+public final class BandWorker {
+  private final DataInputStream input;
+  private final DataOutputStream output;
+  private final Map<Command, CommandHandler> commandHandlers;
+  private Rule rule;
+  private BitGrid currentBand;
+  private BitGrid nextBand;
+  private long[] line;
+
+  BandWorker(DataInputStream input, DataOutputStream output) {
+    this.input = input;
+    this.output = output;
+    this.commandHandlers = new EnumMap<>(Command.class);
+    commandHandlers.put(Command.INIT, this::init);
+    commandHandlers.put(Command.NEXT, this::setNextGeneration);
+    commandHandlers.put(Command.EVOLVE, this::evolveToNextGeneration);
+    commandHandlers.put(Command.READ, this::read);
+    commandHandlers.put(Command.CLOSE, () -> false);
+  }
+
+  /**
+   * Method starting worker process, which connects to the coordinator on the loopback address
+   * and serves its commands until it is closed.
+   *
+   * @param args port of the coordinator and number of the worker.
+   * @throws IOException when connection with the coordinator fails.
+   */
+  public static void main(String[] args) throws IOException {
+    var port = Integer.parseInt(args[0]);
+    var workerNo = Integer.parseInt(args[1]);
+    try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      serve(socket, workerNo);
+    }
+  }
+
+  /**
+   * Method introducing worker to the coordinator and serving its commands until it is closed.
+   *
+   * @param socket connection with the coordinator.
+   * @param workerNo number of the worker, which tells the coordinator which band it owns.
+   * @throws IOException when connection with the coordinator fails.
+   */
+  static void serve(Socket socket, int workerNo) throws IOException {
+    socket.setTcpNoDelay(true);
+    var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    output.writeInt(workerNo);
+    output.flush();
+    var worker = new BandWorker(input, output);
+    while (worker.commandHandlers.get(BandProtocol.readCommand(input)).handle()) {
+      output.flush();
+    }
+  }
+
+  private boolean init() throws IOException {
+    var linesNo = input.readInt();
+    var rowsNo = input.readInt();
+    rule = Rule.of(input.readInt(), input.readInt());
+    currentBand = new BitGrid(linesNo, rowsNo);
+    nextBand = new BitGrid(linesNo, rowsNo);
+    line = new long[currentBand.getWordsPerColumn()];
+    for (int coordinateX = 0; coordinateX < linesNo; coordinateX++) {
+      BandProtocol.readLine(input, line);
+      currentBand.setColumn(coordinateX, line);
+    }
+    writeEdges(currentBand);
+    return true;
+  }
+
+  private boolean setNextGeneration() throws IOException {
+    final var linesNo = currentBand.getMaxColumnNo();
+    BandProtocol.readLine(input, line);
+    currentBand.setColumn(-1, line);
+    BandProtocol.readLine(input, line);
+    currentBand.setColumn(linesNo, line);
+    BitLifeKernel.step(rule, currentBand, nextBand, 0, linesNo);
+    writeEdges(nextBand);
+    return true;
+  }
+
+  private boolean evolveToNextGeneration() {
+    var previousBand = currentBand;
+    currentBand = nextBand;
+    nextBand = previousBand;
+    return true;
+  }
+
+  private boolean read() throws IOException {
+    for (int coordinateX = 0; coordinateX < currentBand.getMaxColumnNo(); coordinateX++) {
+      currentBand.getColumn(coordinateX, line);
+      BandProtocol.writeLine(output, line);
+    }
+    return true;
+  }
+
+  private void writeEdges(BitGrid band) throws IOException {
+    band.getColumn(0, line);
+    BandProtocol.writeLine(output, line);
+    band.getColumn(band.getMaxColumnNo() - 1, line);
+    BandProtocol.writeLine(output, line);
+  }
+
+  @FunctionalInterface
+  private interface CommandHandler {
+    boolean handle() throws IOException;
+  }
+}
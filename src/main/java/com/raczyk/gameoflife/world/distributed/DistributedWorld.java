@@ -0,0 +1,361 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.WorldEngine;
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import com.raczyk.gameoflife.world.distributed.BandProtocol.Command;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Random;
+
+/**
+ * Class representing world split into bands of lines (cells sharing coordinate x), each band
+ * owned by a BandWorker, usually running in its own process. This object is the coordinator:
+ * it accepts workers on a loopback socket, relays boundary lines between neighbouring bands
+ * in every generation and gathers bands for representation and snapshots.
+ * Every generation is a barrier: next generation is set only after all workers have answered
+ * with the edges of their bands. The first and the last band have no neighbour band,
+ * so the world is always bounded and evolves as World does with Topology.BOUNDED.
+ */
+public class DistributedWorld implements WorldEngine, Closeable {
+  private static final int ACCEPT_TIMEOUT_MILLIS = 60_000;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final Rule rule;
+  private final WorkerLauncher workerLauncher;
+  private final Band[] bands;
+  private final long[] deadLine;
+  private long generation;
+
+  /**
+   * Constructs a world of dead cells with given number of columns and rows, evolving with
+   * given rule, split into bands owned by given number of workers started by the launcher.
+   * Constructor returns when all workers are connected and initialized.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param workersNo number of workers, from 1 to maxColumnNo.
+   * @param workerLauncher strategy of starting workers.
+   * @throws IOException when workers cannot be started or connected.
+   */
+  public DistributedWorld(int maxColumnNo, int maxRowNo, Rule rule, int workersNo,
+                          WorkerLauncher workerLauncher) throws IOException {
+    if (workersNo < 1 || workersNo > maxColumnNo) {
+      throw new IllegalArgumentException("Number of workers must be between 1 and "
+          + maxColumnNo + ", got " + workersNo);
+    }
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.rule = rule;
+    this.workerLauncher = workerLauncher;
+    this.bands = new Band[workersNo];
+    this.deadLine = new long[new BitGrid(1, maxRowNo).getWordsPerColumn()];
+    try {
+      connectWorkers();
+      for (Band band : bands) {
+        band.init(new BitGrid(band.linesNo, maxRowNo));
+      }
+    } catch (IOException | RuntimeException e) {
+      closeAfterFailure(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method initializing world matrix with random state for each cell.
+   * States are drawn in the same order as World does, so the same seed gives the same world.
+   * Only one band is kept by the coordinator at a time.
+   *
+   * @param random object used to generate random states of cells.
+   */
+  @Override
+  public void initWorld(Random random) {
+    for (Band band : bands) {
+      var cells = new BitGrid(band.linesNo, maxRowNo);
+      GridWorldEngine.initCells(random, band.linesNo, maxRowNo, cells::setCell);
+      runUnchecked(() -> band.init(cells));
+    }
+  }
+
+  /**
+   * Method making each worker establish next generation of its band. Lines preceding and
+   * following each band are sent to all workers first, so workers compute in parallel,
+   * and the method returns when all of them have answered.
+   */
+  @Override
+  public void setNextGeneration() {
+    runUnchecked(() -> {
+      for (int bandNo = 0; bandNo < bands.length; bandNo++) {
+        bands[bandNo].sendNext(getLastLine(bandNo - 1), getFirstLine(bandNo + 1));
+      }
+      for (Band band : bands) {
+        band.receiveNextEdges();
+      }
+    });
+  }
+
+  /**
+   * Method making each worker evolve its band to the next generation.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    runUnchecked(() -> {
+      for (Band band : bands) {
+        band.evolve();
+      }
+    });
+    generation++;
+  }
+
+  /**
+   * Method appending representation of cells to the given output, reading bands from workers
+   * one line at a time.
+   *
+   * @param output destination of the representation.
+   * @throws IOException when output cannot be written or workers cannot be read.
+   */
+  @Override
+  public void appendRepresentation(Appendable output) throws IOException {
+    var line = new long[deadLine.length];
+    for (Band band : bands) {
+      band.requestLines();
+      for (int lineNo = 0; lineNo < band.linesNo; lineNo++) {
+        BandProtocol.readLine(band.input, line);
+        GridWorldEngine.appendLine(output, maxRowNo,
+            coordinateY -> (int) (line[coordinateY >>> 6] >>> coordinateY) & 1);
+      }
+    }
+  }
+
+  /**
+   * Method gathering bands of all workers into a single BitBoardWorld with the same rule.
+   * Generation counter of the snapshot starts from zero.
+   *
+   * @return world with the current generation of cells.
+   */
+  public BitBoardWorld snapshot() {
+    var world = new BitBoardWorld(maxColumnNo, maxRowNo, rule);
+    var cells = world.getCurrentGeneration();
+    var line = new long[deadLine.length];
+    runUnchecked(() -> {
+      for (Band band : bands) {
+        band.requestLines();
+        for (int lineNo = 0; lineNo < band.linesNo; lineNo++) {
+          BandProtocol.readLine(band.input, line);
+          cells.setColumn(band.firstLineNo + lineNo, line);
+        }
+      }
+    });
+    return world;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  public int getWorkersNo() {
+    return bands.length;
+  }
+
+  /**
+   * Method stopping all workers, closing their connections and waiting for them to exit.
+   * Every connection and the launcher are closed even when closing one of them fails;
+   * the first failure is thrown with the following ones suppressed.
+   *
+   * @throws IOException when a connection cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+    for (Band band : bands) {
+      failure = closeCollecting(band::close, failure);
+    }
+    failure = closeCollecting(workerLauncher, failure);
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static IOException closeCollecting(Closeable closeable, IOException failure) {
+    try {
+      closeable.close();
+      return failure;
+    } catch (IOException e) {
+      if (failure == null) {
+        return e;
+      }
+      failure.addSuppressed(e);
+      return failure;
+    }
+  }
+
+  private void connectWorkers() throws IOException {
+    try (var serverSocket = new ServerSocket(0, bands.length, InetAddress.getLoopbackAddress())) {
+      serverSocket.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+      for (int workerNo = 0; workerNo < bands.length; workerNo++) {
+        workerLauncher.launch(serverSocket.getLocalPort(), workerNo);
+      }
+      for (int connectedNo = 0; connectedNo < bands.length; connectedNo++) {
+        var socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        var workerNo = readWorkerNo(socket, input);
+        var firstLineNo = (int) ((long) maxColumnNo * workerNo / bands.length);
+        var lastLineNo = (int) ((long) maxColumnNo * (workerNo + 1) / bands.length);
+        bands[workerNo] = new Band(socket, input, firstLineNo, lastLineNo - firstLineNo);
+      }
+    }
+  }
+
+  private int readWorkerNo(Socket socket, DataInputStream input) throws IOException {
+    try {
+      var workerNo = input.readInt();
+      if (workerNo < 0 || workerNo >= bands.length || bands[workerNo] != null) {
+        throw new IOException("Unexpected worker number " + workerNo + " for "
+            + bands.length + " workers");
+      }
+      return workerNo;
+    } catch (IOException e) {
+      socket.close();
+      throw e;
+    }
+  }
+
+  private void closeAfterFailure(Exception failure) {
+    for (Band band : bands) {
+      closeQuietly(band == null ? null : band.socket, failure);
+    }
+    try {
+      workerLauncher.abort();
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  private static void closeQuietly(Socket socket, Exception failure) {
+    try {
+      if (socket != null) {
+        socket.close();
+      }
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  private long[] getLastLine(int bandNo) {
+    return bandNo < 0 ? deadLine : bands[bandNo].lastLine;
+  }
+
+  private long[] getFirstLine(int bandNo) {
+    return bandNo >= bands.length ? deadLine : bands[bandNo].firstLine;
+  }
+
+  private static void runUnchecked(IoAction action) {
+    try {
+      action.run();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface IoAction {
+    void run() throws IOException;
+  }
+
+  /**
+   * Class representing connection with a worker together with the edges of its band,
+   * which are sent to neighbouring workers in the next generation.
+   */
+  private final class Band {
+    private final Socket socket;
+    private final DataInputStream input;
+    private final DataOutputStream output;
+    private final int firstLineNo;
+    private final int linesNo;
+    private long[] firstLine;
+    private long[] lastLine;
+    private long[] nextFirstLine;
+    private long[] nextLastLine;
+
+    private Band(Socket socket, DataInputStream input, int firstLineNo, int linesNo)
+        throws IOException {
+      this.socket = socket;
+      this.input = input;
+      this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      this.firstLineNo = firstLineNo;
+      this.linesNo = linesNo;
+      this.firstLine = new long[deadLine.length];
+      this.lastLine = new long[deadLine.length];
+      this.nextFirstLine = new long[deadLine.length];
+      this.nextLastLine = new long[deadLine.length];
+    }
+
+    private void init(BitGrid cells) throws IOException {
+      var line = new long[deadLine.length];
+      BandProtocol.writeCommand(output, Command.INIT);
+      output.writeInt(linesNo);
+      output.writeInt(maxRowNo);
+      output.writeInt(rule.getBirthMask());
+      output.writeInt(rule.getSurvivalMask());
+      for (int coordinateX = 0; coordinateX < linesNo; coordinateX++) {
+        cells.getColumn(coordinateX, line);
+        BandProtocol.writeLine(output, line);
+      }
+      output.flush();
+      BandProtocol.readLine(input, firstLine);
+      BandProtocol.readLine(input, lastLine);
+    }
+
+    private void sendNext(long[] previousLine, long[] followingLine) throws IOException {
+      BandProtocol.writeCommand(output, Command.NEXT);
+      BandProtocol.writeLine(output, previousLine);
+      BandProtocol.writeLine(output, followingLine);
+      output.flush();
+    }
+
+    private void receiveNextEdges() throws IOException {
+      BandProtocol.readLine(input, nextFirstLine);
+      BandProtocol.readLine(input, nextLastLine);
+    }
+
+    private void evolve() throws IOException {
+      // Not flushed, command reaches the worker together with the next one.
+      BandProtocol.writeCommand(output, Command.EVOLVE);
+      var previousFirstLine = firstLine;
+      firstLine = nextFirstLine;
+      nextFirstLine = previousFirstLine;
+      var previousLastLine = lastLine;
+      lastLine = nextLastLine;
+      nextLastLine = previousLastLine;
+    }
+
+    private void requestLines() throws IOException {
+      BandProtocol.writeCommand(output, Command.READ);
+      output.flush();
+    }
+
+    private void close() throws IOException {
+      try (socket) {
+        BandProtocol.writeCommand(output, Command.CLOSE);
+        output.flush();
+      }
+    }
+  }
+}
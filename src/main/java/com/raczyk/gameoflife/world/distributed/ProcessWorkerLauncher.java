@@ -0,0 +1,79 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class representing launcher starting each worker as a separate JVM process.
+ * Worker processes run BandWorker with the class path of the current JVM and share its
+ * standard output and error.
+ */
+public class ProcessWorkerLauncher implements WorkerLauncher {
+  private static final long EXIT_TIMEOUT_SECONDS = 10;
+
+  private final String javaCommand;
+  private final String classPath;
+  private final List<Process> processes;
+
+  /**
+   * Constructs a launcher starting workers with java and class path of the current JVM.
+   */
+  public ProcessWorkerLauncher() {
+    this(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+        System.getProperty("java.class.path"));
+  }
+
+  /**
+   * Constructs a launcher starting workers with given java command and class path.
+   *
+   * @param javaCommand path of the java launcher.
+   * @param classPath class path containing BandWorker.
+   */
+  public ProcessWorkerLauncher(String javaCommand, String classPath) {
+    this.javaCommand = javaCommand;
+    this.classPath = classPath;
+    this.processes = new ArrayList<>();
+  }
+
+  @Override
+  public void launch(int port, int workerNo) throws IOException {
+    processes.add(new ProcessBuilder(javaCommand, "-cp", classPath, BandWorker.class.getName(),
+        String.valueOf(port), String.valueOf(workerNo))
+        .inheritIO()
+        .start());
+  }
+
+  /**
+   * Method waiting for worker processes to exit and killing the ones which do not exit in time.
+   */
+  @Override
+  public void close() {
+    for (Process process : processes) {
+      awaitExit(process);
+    }
+    processes.clear();
+  }
+
+  /**
+   * Method killing worker processes at once, without waiting for them to exit.
+   */
+  @Override
+  public void abort() {
+    processes.forEach(Process::destroyForcibly);
+    close();
+  }
+
+  private static void awaitExit(Process process) {
+    try {
+      if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
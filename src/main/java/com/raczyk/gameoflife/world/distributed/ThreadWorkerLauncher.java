@@ -0,0 +1,51 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class representing launcher running each worker on a thread of the current JVM.
+ * Workers still talk to the coordinator over loopback sockets, so the protocol is the same
+ * as with ProcessWorkerLauncher, without the cost of starting processes.
+ */
+public class ThreadWorkerLauncher implements WorkerLauncher {
+  private final List<Thread> threads = new ArrayList<>();
+
+  @Override
+  public void launch(int port, int workerNo) {
+    var thread = new Thread(() -> serve(port, workerNo), "band-worker-" + workerNo);
+    thread.setDaemon(true);
+    thread.start();
+    threads.add(thread);
+  }
+
+  /**
+   * Method waiting for worker threads to finish.
+   *
+   * @throws IOException when waiting is interrupted.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      threads.clear();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for workers", e);
+    }
+  }
+
+  private static void serve(int port, int workerNo) {
+    try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      BandWorker.serve(socket, workerNo);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
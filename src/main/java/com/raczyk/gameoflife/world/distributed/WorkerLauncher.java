@@ -0,0 +1,31 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface representing strategy of starting workers of a DistributedWorld.
+ * Each launched worker has to connect to the coordinator listening on the loopback address
+ * on given port. Closing the launcher waits for the workers it started.
+ */
+public interface WorkerLauncher extends Closeable {
+
+  /**
+   * Method starting a worker which connects to the coordinator.
+   *
+   * @param port port on which the coordinator accepts workers.
+   * @param workerNo number of the worker, deciding which band it owns.
+   * @throws IOException when the worker cannot be started.
+   */
+  void launch(int port, int workerNo) throws IOException;
+
+  /**
+   * Method stopping workers after the coordinator failed to set them up. By default it waits
+   * for them like close does, as workers exit once their connection is closed.
+   *
+   * @throws IOException when workers cannot be stopped.
+   */
+  default void abort() throws IOException {
+    close();
+  }
+}
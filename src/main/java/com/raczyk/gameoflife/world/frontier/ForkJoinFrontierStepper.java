@@ -0,0 +1,118 @@
+package com.raczyk.gameoflife.world.frontier;
+
+import com.raczyk.gameoflife.world.cell.Cell;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Class establishing future states of the frontier in parallel on a ForkJoinPool.
+ * Frontier is split into stripes of cells. Future state of a cell depends only on current
+ * states, which are not changed while stepping, so stripes are evaluated independently.
+ * Changing cells are collected afterwards in the order of the frontier, so the result
+ * is identical to the sequential one.
+ * Closing the stepper shuts down the pool only when the stepper created it.
+ */
+public final class ForkJoinFrontierStepper implements FrontierStepper, AutoCloseable {
+  private static final int STRIPES_PER_THREAD = 4;
+
+  private final ForkJoinPool pool;
+  private final int minStripeCellsNo;
+  private final Runnable poolRelease;
+
+  /**
+   * Constructs a stepper using its own pool with given parallelism level.
+   * The pool is shut down when the stepper is closed.
+   *
+   * @param parallelism number of threads evaluating stripes at the same time.
+   */
+  public ForkJoinFrontierStepper(int parallelism) {
+    this(new ForkJoinPool(parallelism), 1, true);
+  }
+
+  /**
+   * Constructs a stepper using given pool. Frontier is split into a few stripes for each thread
+   * of the pool, but stripes never hold fewer than given number of cells.
+   * The pool stays owned by the caller, so closing the stepper does not shut it down.
+   *
+   * @param pool pool on which stripes are evaluated.
+   * @param minStripeCellsNo minimal number of cells evaluated by a single task.
+   */
+  public ForkJoinFrontierStepper(ForkJoinPool pool, int minStripeCellsNo) {
+    this(pool, minStripeCellsNo, false);
+  }
+
+  private ForkJoinFrontierStepper(ForkJoinPool pool, int minStripeCellsNo, boolean ownedPool) {
+    this.pool = pool;
+    this.minStripeCellsNo = Math.max(1, minStripeCellsNo);
+    this.poolRelease = ownedPool ? pool::shutdown : () -> { };
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  @Override
+  public int step(Cell[] frontier, int frontierSize, Cell[] changedCells) {
+    final var stripesNo = pool.getParallelism() * STRIPES_PER_THREAD;
+    final var stripeCellsNo = Math.max(minStripeCellsNo, frontierSize / stripesNo);
+    var stripeTasks = IntStream.iterate(0, fromCell -> fromCell < frontierSize,
+        fromCell -> fromCell + stripeCellsNo)
+        .mapToObj(fromCell -> new StripeTask(frontier, fromCell,
+            Math.min(frontierSize, fromCell + stripeCellsNo)))
+        .collect(Collectors.toList());
+    pool.invoke(new StepTask(stripeTasks));
+    var changedCellsNo = 0;
+    for (int cellNo = 0; cellNo < frontierSize; cellNo++) {
+      changedCells[changedCellsNo] = frontier[cellNo];
+      changedCellsNo += frontier[cellNo].isChanging() ? 1 : 0;
+    }
+    return changedCellsNo;
+  }
+
+  /**
+   * Method shutting down the pool when it was created by the stepper.
+   */
+  @Override
+  public void close() {
+    poolRelease.run();
+  }
+
+  private static final class StepTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<StripeTask> stripeTasks;
+
+    private StepTask(List<StripeTask> stripeTasks) {
+      this.stripeTasks = stripeTasks;
+    }
+
+    @Override
+    protected void compute() {
+      invokeAll(stripeTasks);
+    }
+  }
+
+  private static final class StripeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Cell[] frontier;
+    private final int fromCell;
+    private final int toCell;
+
+    private StripeTask(Cell[] frontier, int fromCell, int toCell) {
+      this.frontier = frontier;
+      this.fromCell = fromCell;
+      this.toCell = toCell;
+    }
+
+    @Override
+    protected void compute() {
+      for (int cellNo = fromCell; cellNo < toCell; cellNo++) {
+        frontier[cellNo].setNextGeneration();
+      }
+    }
+  }
+}
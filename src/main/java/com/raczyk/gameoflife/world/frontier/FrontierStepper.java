@@ -0,0 +1,22 @@
+package com.raczyk.gameoflife.world.frontier;
+
+import com.raczyk.gameoflife.world.cell.Cell;
+
+/**
+ * Interface representing strategy of establishing future states of the frontier of World.
+ * Every strategy has to establish the same future states and collect changing cells
+ * in the same order as SequentialFrontierStepper does.
+ */
+public interface FrontierStepper {
+
+  /**
+   * Method establishing future state of each cell in the frontier and collecting cells
+   * which change their state, in the order of the frontier.
+   *
+   * @param frontier cells evaluated in the next generation.
+   * @param frontierSize number of cells at the beginning of the frontier array to evaluate.
+   * @param changedCells array where changing cells are written, as large as the frontier.
+   * @return number of changing cells written to changedCells.
+   */
+  int step(Cell[] frontier, int frontierSize, Cell[] changedCells);
+}
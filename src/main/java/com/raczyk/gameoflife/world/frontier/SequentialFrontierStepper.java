@@ -0,0 +1,22 @@
+package com.raczyk.gameoflife.world.frontier;
+
+import com.raczyk.gameoflife.world.cell.Cell;
+
+/**
+ * Class establishing future states of the frontier one cell after another in the calling
+ * thread, collecting changing cells in the same pass.
+ */
+public final class SequentialFrontierStepper implements FrontierStepper {
+
+  @Override
+  public int step(Cell[] frontier, int frontierSize, Cell[] changedCells) {
+    var changedCellsNo = 0;
+    for (int cellNo = 0; cellNo < frontierSize; cellNo++) {
+      var cell = frontier[cellNo];
+      cell.setNextGeneration();
+      changedCells[changedCellsNo] = cell;
+      changedCellsNo += cell.isChanging() ? 1 : 0;
+    }
+    return changedCellsNo;
+  }
+}
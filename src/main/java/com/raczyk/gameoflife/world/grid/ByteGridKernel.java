@@ -0,0 +1,23 @@
+package com.raczyk.gameoflife.world.grid;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Interface representing strategy of computing next generation of a matrix of byte states.
+ * Matrix is surrounded with a border of ghost cells, so cell (x, y) is stored at index
+ * (x + 1) * (maxRowNo + 2) + y + 1. Every strategy has to produce exactly the same generation
+ * as ScalarByteGridKernel does.
+ */
+public interface ByteGridKernel {
+
+  /**
+   * Method computing next generation of all cells, with the border already filled.
+   *
+   * @param rule rule applied to cells.
+   * @param source states of the current generation, 1 for alive cell and 0 for dead cell.
+   * @param target states where next generation is written, border is left untouched.
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  void step(Rule rule, byte[] source, byte[] target, int maxColumnNo, int maxRowNo);
+}
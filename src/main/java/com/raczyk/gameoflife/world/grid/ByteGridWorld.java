@@ -0,0 +1,193 @@
+package com.raczyk.gameoflife.world.grid;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Arrays;
+
+/**
+ * Class representing world build with primitive matrix of cell states.
+ * State of each cell is a byte in StateBuffers, 1 for alive cell and 0 for dead cell.
+ * Matrix is surrounded with a border of ghost cells, filled according to the topology before
+ * each generation, so every cell has eight neighbours at fixed offsets. Next generation is
+ * written into the second buffer in a single pass and evolving to it flips the generation index
+ * of the buffers. Neighbours are summed by a ByteGridKernel, by default SwarByteGridKernel
+ * which evolves eight cells per long. As the ghost border supports every Topology,
+ * with the same rule and topology the world evolves exactly as World does.
+ */
+public class ByteGridWorld implements GridWorldEngine {
+  private static final int BORDER_SIZE = 2;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final int stride;
+  private final Rule rule;
+  private final Topology topology;
+  private final ByteGridKernel kernel;
+  private final StateBuffers stateBuffers;
+  private long generation;
+
+  /**
+   * Constructs a world represented as matrix of dead cells with
+   * given number of columns and rows passed as parameter, evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public ByteGridWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with
+   * given number of columns and rows passed as parameter, evolving with given rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   */
+  public ByteGridWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    this(maxColumnNo, maxRowNo, rule, Topology.BOUNDED);
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with given number of columns
+   * and rows passed as parameter, evolving with given rule, with edges joined according
+   * to given topology. Border of ghost cells is filled once per generation.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param topology way edges of the world are joined.
+   */
+  public ByteGridWorld(int maxColumnNo, int maxRowNo, Rule rule, Topology topology) {
+    this(maxColumnNo, maxRowNo, rule, topology, new SwarByteGridKernel());
+  }
+
+  /**
+   * Constructs a world represented as matrix of dead cells with given number of columns
+   * and rows passed as parameter, evolving with given rule and kernel, with edges joined
+   * according to given topology.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param topology way edges of the world are joined.
+   * @param kernel strategy of computing next generation.
+   */
+  public ByteGridWorld(int maxColumnNo, int maxRowNo, Rule rule, Topology topology,
+                       ByteGridKernel kernel) {
+    this.kernel = kernel;
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.stride = maxRowNo + BORDER_SIZE;
+    this.rule = rule;
+    this.topology = topology;
+    this.stateBuffers = new StateBuffers((maxColumnNo + BORDER_SIZE) * stride);
+  }
+
+  /**
+   * Method establishing next generation of cells in the next state buffer,
+   * leaving the current generation untouched.
+   */
+  @Override
+  public void setNextGeneration() {
+    final var current = stateBuffers.getCurrent();
+    fillBorder(current);
+    kernel.step(rule, current, stateBuffers.getNext(), maxColumnNo, maxRowNo);
+  }
+
+  /**
+   * Method evolving cells to the new generation by flipping generation index of state buffers.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    stateBuffers.flip();
+    generation++;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return stateBuffers.getCurrent()[getIndex(coordinateX, coordinateY)];
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    stateBuffers.getCurrent()[getIndex(coordinateX, coordinateY)] = (byte) state;
+  }
+
+  /**
+   * Method counting alive cells of the current generation.
+   *
+   * @return number of alive cells.
+   */
+  public long getPopulation() {
+    final var current = stateBuffers.getCurrent();
+    var population = 0L;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var index = getIndex(coordinateX, 0);
+      for (int coordinateY = 0; coordinateY < maxRowNo; coordinateY++, index++) {
+        population += current[index];
+      }
+    }
+    return population;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  private void fillBorder(byte[] cells) {
+    final var lastRow = maxRowNo - 1;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var source = topology.getWrappedRowColumnSource(coordinateX, maxColumnNo);
+      var sourceExists = source != Topology.NO_SOURCE;
+      cells[getIndex(coordinateX, -1)] = sourceExists ? cells[getIndex(source, lastRow)] : 0;
+      cells[getIndex(coordinateX, maxRowNo)] = sourceExists ? cells[getIndex(source, 0)] : 0;
+    }
+    fillBorderColumn(cells, -1);
+    fillBorderColumn(cells, maxColumnNo);
+  }
+
+  private void fillBorderColumn(byte[] cells, int borderColumn) {
+    var source = topology.getHaloColumnSource(borderColumn, maxColumnNo);
+    var borderStart = getIndex(borderColumn, -1);
+    if (source == Topology.NO_SOURCE) {
+      Arrays.fill(cells, borderStart, borderStart + stride, (byte) 0);
+      return;
+    }
+    System.arraycopy(cells, getIndex(source, -1), cells, borderStart, stride);
+  }
+
+  private int getIndex(int coordinateX, int coordinateY) {
+    return (coordinateX + 1) * stride + coordinateY + 1;
+  }
+}
@@ -0,0 +1,39 @@
+package com.raczyk.gameoflife.world.grid;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class computing next generation one cell at a time, summing eight neighbour bytes
+ * at fixed offsets and looking the next state up in the rule.
+ */
+public final class ScalarByteGridKernel implements ByteGridKernel {
+
+  @Override
+  public void step(Rule rule, byte[] source, byte[] target, int maxColumnNo, int maxRowNo) {
+    final var stride = maxRowNo + 2;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var index = (coordinateX + 1) * stride + 1;
+      stepCells(rule, source, target, index, index + maxRowNo, stride);
+    }
+  }
+
+  /**
+   * Method computing next state of cells stored between given indexes of a column.
+   *
+   * @param rule rule applied to cells.
+   * @param source states of the current generation.
+   * @param target states where next generation is written.
+   * @param fromIndex index of the first cell, inclusive.
+   * @param toIndex index after the last cell, exclusive.
+   * @param stride distance between neighbouring columns.
+   */
+  static void stepCells(Rule rule, byte[] source, byte[] target, int fromIndex, int toIndex,
+                        int stride) {
+    for (int index = fromIndex; index < toIndex; index++) {
+      var livingNeighboursNo = source[index - stride - 1] + source[index - stride]
+          + source[index - stride + 1] + source[index - 1] + source[index + 1]
+          + source[index + stride - 1] + source[index + stride] + source[index + stride + 1];
+      target[index] = (byte) rule.getNextState(source[index], livingNeighboursNo);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.raczyk.gameoflife.world.grid;
+
+/**
+ * Class representing two buffers of primitive cell states, one per generation.
+ * Generation index tells which buffer holds the current generation; the other one is where
+ * the next generation is written. Evolving to the next generation only flips the index,
+ * so no cell is touched and nothing is allocated.
+ */
+public final class StateBuffers {
+  private static final int BUFFERS_NO = 2;
+
+  private final byte[][] buffers;
+  private int generationIndex;
+
+  /**
+   * Constructs buffers for given number of cells, all of them dead.
+   *
+   * @param cellsNo number of cells in each buffer.
+   */
+  public StateBuffers(int cellsNo) {
+    this.buffers = new byte[BUFFERS_NO][cellsNo];
+  }
+
+  public byte[] getCurrent() {
+    return buffers[generationIndex];
+  }
+
+  public byte[] getNext() {
+    return buffers[generationIndex ^ 1];
+  }
+
+  /**
+   * Method making the next buffer current and the current one next.
+   */
+  public void flip() {
+    generationIndex ^= 1;
+  }
+
+  public int getGenerationIndex() {
+    return generationIndex;
+  }
+}
@@ -0,0 +1,49 @@
+package com.raczyk.gameoflife.world.grid;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Class computing next generation of eight cells at once, treating eight consecutive bytes
+ * of a column as lanes of a long (SIMD within a register). Neighbour bytes are read as longs
+ * through a byte array view, so summing eight neighbour longs sums eight cells in parallel;
+ * no lane can overflow into another, since a sum never exceeds 8. Bits of the sums are then
+ * passed to the bit-sliced Rule.evolve. Cells at the end of a column which do not fill
+ * a whole long are computed with the scalar kernel.
+ */
+public final class SwarByteGridKernel implements ByteGridKernel {
+  private static final int LANES_NO = Long.BYTES;
+  private static final long LANE_BITS = 0x0101010101010101L;
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  @Override
+  public void step(Rule rule, byte[] source, byte[] target, int maxColumnNo, int maxRowNo) {
+    final var stride = maxRowNo + 2;
+    final var lanesEnd = maxRowNo - maxRowNo % LANES_NO;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      final var columnStart = (coordinateX + 1) * stride + 1;
+      final var tailStart = columnStart + lanesEnd;
+      for (int index = columnStart; index < tailStart; index += LANES_NO) {
+        LONG_VIEW.set(target, index, evolveLanes(rule, source, index, stride));
+      }
+      ScalarByteGridKernel.stepCells(rule, source, target, tailStart, columnStart + maxRowNo,
+          stride);
+    }
+  }
+
+  private static long evolveLanes(Rule rule, byte[] source, int index, int stride) {
+    final var sums = getLanes(source, index - stride - 1) + getLanes(source, index - stride)
+        + getLanes(source, index - stride + 1) + getLanes(source, index - 1)
+        + getLanes(source, index + 1) + getLanes(source, index + stride - 1)
+        + getLanes(source, index + stride) + getLanes(source, index + stride + 1);
+    return LANE_BITS & rule.evolve(sums & LANE_BITS, sums >>> 1 & LANE_BITS,
+        sums >>> 2 & LANE_BITS, sums >>> 3 & LANE_BITS, getLanes(source, index));
+  }
+
+  private static long getLanes(byte[] source, int index) {
+    return (long) LONG_VIEW.get(source, index);
+  }
+}
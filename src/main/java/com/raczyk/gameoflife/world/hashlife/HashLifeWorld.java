@@ -0,0 +1,269 @@
+package com.raczyk.gameoflife.world.hashlife;
+
+import com.raczyk.gameoflife.world.AdvanceControl;
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class representing unbounded world evolved with HashLife algorithm.
+ * World is a quadtree of canonical nodes centred at point (0, 0). Future of every node is
+ * memoized, so repeating patterns are computed once and the world can be advanced by 2^k
+ * generations in a single step, which takes time depending on the structure of the pattern
+ * rather than on the number of generations.
+ * Number of columns and rows given in constructor only describe the part of the world which
+ * is initialized randomly and presented by getWorldRepresentation method.
+ */
+public class HashLifeWorld implements GridWorldEngine {
+  private static final int MIN_LEVEL = 3;
+  private static final int MAX_STEP_LOG2 = 59;
+  private static final int DEFAULT_MAX_NODES_NO = 1 << 20;
+  private static final int DEFAULT_MAX_RESULTS_NO = 1 << 18;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final Rule rule;
+  private final NodeStore nodeStore;
+  private Node root;
+  private long generation;
+  private Node nextRoot;
+  private long nextGeneration;
+
+  /**
+   * Constructs an empty world evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns of the initialized and presented part of the world.
+   * @param maxRowNo number of rows of the initialized and presented part of the world.
+   */
+  public HashLifeWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs an empty world evolving with given rule.
+   *
+   * @param maxColumnNo number of columns of the initialized and presented part of the world.
+   * @param maxRowNo number of rows of the initialized and presented part of the world.
+   * @param rule rule applied to cells in each generation.
+   * @throws IllegalArgumentException when rule gives birth to cells without living neighbours,
+   *     which would fill the whole unbounded world.
+   */
+  public HashLifeWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    this(maxColumnNo, maxRowNo, rule, DEFAULT_MAX_NODES_NO, DEFAULT_MAX_RESULTS_NO);
+  }
+
+  /**
+   * Constructs an empty world evolving with given rule and bounded memory.
+   * When number of canonical nodes exceeds the limit, nodes not used by the current
+   * generation are dropped before the next advance. Least recently used futures of nodes
+   * are evicted when there are more of them than the limit.
+   *
+   * @param maxColumnNo number of columns of the initialized and presented part of the world.
+   * @param maxRowNo number of rows of the initialized and presented part of the world.
+   * @param rule rule applied to cells in each generation.
+   * @param maxNodesNo number of canonical nodes above which they are garbage collected.
+   * @param maxResultsNo maximal number of memoized futures of nodes.
+   * @throws IllegalArgumentException when rule gives birth to cells without living neighbours,
+   *     which would fill the whole unbounded world.
+   */
+  public HashLifeWorld(int maxColumnNo, int maxRowNo, Rule rule,
+                       int maxNodesNo, int maxResultsNo) {
+    if (rule.getNextState(Rule.DEAD_STATE, 0) == Rule.ALIVE_STATE) {
+      throw new IllegalArgumentException("Rule " + rule + " cannot evolve unbounded world");
+    }
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.rule = rule;
+    this.nodeStore = new NodeStore(rule, maxNodesNo, maxResultsNo);
+    this.root = nodeStore.getEmptyNode(MIN_LEVEL);
+    this.nextRoot = root;
+  }
+
+  /**
+   * Method establishing next generation of cells, leaving the current one untouched.
+   */
+  @Override
+  public void setNextGeneration() {
+    nextRoot = getAdvancedRoot(0);
+    nextGeneration = generation + 1;
+  }
+
+  /**
+   * Method evolving cells to the generation established by setNextGeneration method.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    root = nextRoot;
+    generation = nextGeneration;
+  }
+
+  /**
+   * Method advancing world by 2^stepLog2 generations at once.
+   *
+   * @param stepLog2 base 2 logarithm of the number of generations, from 0 to 59.
+   */
+  public void advancePowerOfTwo(int stepLog2) {
+    if (stepLog2 < 0 || stepLog2 > MAX_STEP_LOG2) {
+      throw new IllegalArgumentException("Cannot advance by 2^" + stepLog2 + " generations");
+    }
+    root = getAdvancedRoot(stepLog2);
+    generation += 1L << stepLog2;
+    nextRoot = root;
+    nextGeneration = generation;
+  }
+
+  /**
+   * Method advancing world by given number of generations unless it is cancelled, using one
+   * power of two step for every bit set in the number. Cancellation is checked before each
+   * of these steps and progress is reported after it.
+   *
+   * @param generationsNo number of generations, from 0 to 2^60 - 1.
+   * @param control control deciding about cancellation and receiving progress.
+   * @return number of generations advanced, smaller than requested when cancelled.
+   */
+  @Override
+  public long advance(long generationsNo, AdvanceControl control) {
+    if (generationsNo < 0 || generationsNo >>> (MAX_STEP_LOG2 + 1) != 0) {
+      throw new IllegalArgumentException("Cannot advance by " + generationsNo + " generations");
+    }
+    var advancedNo = 0L;
+    for (int stepLog2 = 0; stepLog2 <= MAX_STEP_LOG2 && advancedNo < generationsNo; stepLog2++) {
+      var step = generationsNo & (1L << stepLog2);
+      if (step == 0) {
+        continue;
+      }
+      if (control.isCancelled()) {
+        return advancedNo;
+      }
+      advancePowerOfTwo(stepLog2);
+      advancedNo += step;
+      control.onProgress(advancedNo, generationsNo);
+    }
+    return advancedNo;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return getCell((long) coordinateX, (long) coordinateY);
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell, can be negative.
+   * @param coordinateY coordinate y of the cell, can be negative.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  public int getCell(long coordinateX, long coordinateY) {
+    var half = root.getSize() / 2;
+    if (!isInside(coordinateX + half, coordinateY + half, root.getSize())) {
+      return Rule.DEAD_STATE;
+    }
+    var node = root;
+    var nodeX = coordinateX + half;
+    var nodeY = coordinateY + half;
+    while (node.level > 0) {
+      var quadrantSize = node.getSize() / 2;
+      var south = nodeX >= quadrantSize;
+      var east = nodeY >= quadrantSize;
+      node = getQuadrant(node, south, east);
+      nodeX -= south ? quadrantSize : 0;
+      nodeY -= east ? quadrantSize : 0;
+    }
+    return (int) node.population;
+  }
+
+  public boolean isAlive(long coordinateX, long coordinateY) {
+    return getCell(coordinateX, coordinateY) == Rule.ALIVE_STATE;
+  }
+
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    setCell((long) coordinateX, (long) coordinateY, state);
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   * World grows when the cell lies outside of the current quadtree.
+   *
+   * @param coordinateX coordinate x of the cell, can be negative.
+   * @param coordinateY coordinate y of the cell, can be negative.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  public void setCell(long coordinateX, long coordinateY, int state) {
+    while (!isInside(coordinateX + root.getSize() / 2, coordinateY + root.getSize() / 2,
+        root.getSize())) {
+      root = nodeStore.expand(root);
+    }
+    var half = root.getSize() / 2;
+    var leaf = state == Rule.ALIVE_STATE ? Node.ALIVE_LEAF : Node.DEAD_LEAF;
+    root = replaceCell(root, coordinateX + half, coordinateY + half, leaf);
+    nextRoot = root;
+    nextGeneration = generation;
+  }
+
+  public long getPopulation() {
+    return root.population;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  private Node getAdvancedRoot(int stepLog2) {
+    nodeStore.collectGarbage(root);
+    var paddedRoot = root;
+    while (paddedRoot.level < stepLog2 + 2
+        || nodeStore.getCentre(paddedRoot).population != paddedRoot.population) {
+      paddedRoot = nodeStore.expand(paddedRoot);
+    }
+    var advancedRoot = nodeStore.getFuture(nodeStore.expand(paddedRoot), stepLog2);
+    while (advancedRoot.level > MIN_LEVEL
+        && nodeStore.getCentre(advancedRoot).population == advancedRoot.population) {
+      advancedRoot = nodeStore.getCentre(advancedRoot);
+    }
+    return advancedRoot;
+  }
+
+  private Node replaceCell(Node node, long nodeX, long nodeY, Node leaf) {
+    if (node.level == 0) {
+      return leaf;
+    }
+    var quadrantSize = node.getSize() / 2;
+    var south = nodeX >= quadrantSize;
+    var east = nodeY >= quadrantSize;
+    var quadrantX = nodeX - (south ? quadrantSize : 0);
+    var quadrantY = nodeY - (east ? quadrantSize : 0);
+    var northWest = node.northWest;
+    var northEast = node.northEast;
+    var southWest = node.southWest;
+    var southEast = node.southEast;
+    var quadrant = replaceCell(getQuadrant(node, south, east), quadrantX, quadrantY, leaf);
+    return nodeStore.join(
+        !south && !east ? quadrant : northWest, !south && east ? quadrant : northEast,
+        south && !east ? quadrant : southWest, south && east ? quadrant : southEast);
+  }
+
+  private static Node getQuadrant(Node node, boolean south, boolean east) {
+    var northQuadrant = east ? node.northEast : node.northWest;
+    var southQuadrant = east ? node.southEast : node.southWest;
+    return south ? southQuadrant : northQuadrant;
+  }
+
+  private static boolean isInside(long nodeX, long nodeY, long size) {
+    return nodeX >= 0 && nodeX < size && nodeY >= 0 && nodeY < size;
+  }
+}
@@ -0,0 +1,72 @@
+package com.raczyk.gameoflife.world.hashlife;
+
+/**
+ * Class representing square of cells as an immutable quadtree node.
+ * Node of level n covers 2^n x 2^n cells and consists of four nodes of level n - 1.
+ * Quadrants are named as in the world representation, where coordinate x grows downwards
+ * (north is lower x) and coordinate y grows to the right (west is lower y).
+ * Nodes are canonical: two nodes with the same cells are the same object, so nodes
+ * are compared by identity of their quadrants.
+ */
+final class Node {
+  static final Node DEAD_LEAF = new Node(0L);
+  static final Node ALIVE_LEAF = new Node(1L);
+
+  private static final int HASH_MULTIPLIER = 31;
+
+  final int level;
+  final Node northWest;
+  final Node northEast;
+  final Node southWest;
+  final Node southEast;
+  final long population;
+  private final int hash;
+
+  Node(Node northWest, Node northEast, Node southWest, Node southEast) {
+    this.level = northWest.level + 1;
+    this.northWest = northWest;
+    this.northEast = northEast;
+    this.southWest = southWest;
+    this.southEast = southEast;
+    this.population = northWest.population + northEast.population
+        + southWest.population + southEast.population;
+    this.hash = ((northWest.hash * HASH_MULTIPLIER + northEast.hash) * HASH_MULTIPLIER
+        + southWest.hash) * HASH_MULTIPLIER + southEast.hash + level;
+  }
+
+  private Node(long population) {
+    this.level = 0;
+    this.northWest = null;
+    this.northEast = null;
+    this.southWest = null;
+    this.southEast = null;
+    this.population = population;
+    this.hash = (int) population;
+  }
+
+  /**
+   * Method returning side of the square covered by the node.
+   */
+  long getSize() {
+    return 1L << level;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Node node = (Node) o;
+    return level == node.level && population == node.population
+        && northWest == node.northWest && northEast == node.northEast
+        && southWest == node.southWest && southEast == node.southEast;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
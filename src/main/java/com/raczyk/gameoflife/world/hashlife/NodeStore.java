@@ -0,0 +1,226 @@
+package com.raczyk.gameoflife.world.hashlife;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class creating canonical nodes and computing their future with memoization.
+ * Every node is looked up in the table of canonical nodes before it is created, so identical
+ * squares of cells are shared. Futures of nodes are kept in a bounded cache evicting the least
+ * recently used entries. When the table of canonical nodes exceeds its limit, it is rebuilt
+ * from nodes still reachable from the root.
+ */
+final class NodeStore {
+  private static final int BASE_LEVEL = 2;
+  private static final int BASE_SIZE = 4;
+
+  private final Rule rule;
+  private final int maxNodesNo;
+  private final Map<Node, Node> canonicalNodes;
+  private final Map<ResultKey, Node> results;
+  private final List<Node> emptyNodes;
+
+  NodeStore(Rule rule, int maxNodesNo, int maxResultsNo) {
+    this.rule = rule;
+    this.maxNodesNo = maxNodesNo;
+    this.canonicalNodes = new HashMap<>();
+    this.results = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ResultKey, Node> eldest) {
+        return size() > maxResultsNo;
+      }
+    };
+    this.emptyNodes = new ArrayList<>(List.of(Node.DEAD_LEAF));
+  }
+
+  /**
+   * Method returning canonical node consisting of given quadrants.
+   */
+  Node join(Node northWest, Node northEast, Node southWest, Node southEast) {
+    var node = new Node(northWest, northEast, southWest, southEast);
+    return canonicalNodes.computeIfAbsent(node, created -> created);
+  }
+
+  /**
+   * Method returning canonical node of given level without alive cells.
+   */
+  Node getEmptyNode(int level) {
+    while (emptyNodes.size() <= level) {
+      var largestEmptyNode = emptyNodes.get(emptyNodes.size() - 1);
+      emptyNodes.add(join(largestEmptyNode, largestEmptyNode, largestEmptyNode,
+          largestEmptyNode));
+    }
+    return emptyNodes.get(level);
+  }
+
+  /**
+   * Method returning node of one level higher with given node in its centre.
+   */
+  Node expand(Node node) {
+    var border = getEmptyNode(node.level - 1);
+    return join(join(border, border, border, node.northWest),
+        join(border, border, node.northEast, border),
+        join(border, node.southWest, border, border),
+        join(node.southEast, border, border, border));
+  }
+
+  /**
+   * Method returning centre of the node, one level lower.
+   */
+  Node getCentre(Node node) {
+    return join(node.northWest.southEast, node.northEast.southWest,
+        node.southWest.northEast, node.southEast.northWest);
+  }
+
+  /**
+   * Method computing centre of the node advanced by 2^stepLog2 generations.
+   * Step cannot be longer than a quarter of the node side, that is stepLog2 &lt;= level - 2.
+   *
+   * @param node node of level at least 2.
+   * @param stepLog2 base 2 logarithm of the number of generations.
+   * @return centre of the node, one level lower, after given number of generations.
+   */
+  Node getFuture(Node node, int stepLog2) {
+    if (node.population == 0L) {
+      return getEmptyNode(node.level - 1);
+    }
+    if (node.level == BASE_LEVEL) {
+      return getBaseFuture(node);
+    }
+    var key = new ResultKey(node, stepLog2);
+    var result = results.get(key);
+    if (result == null) {
+      result = computeFuture(node, stepLog2);
+      results.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Method rebuilding table of canonical nodes from the given root when it grew beyond
+   * the limit. Cached results are dropped together with the table.
+   */
+  void collectGarbage(Node root) {
+    if (canonicalNodes.size() <= maxNodesNo) {
+      return;
+    }
+    canonicalNodes.clear();
+    results.clear();
+    emptyNodes.subList(1, emptyNodes.size()).clear();
+    register(root);
+  }
+
+  int getNodesNo() {
+    return canonicalNodes.size();
+  }
+
+  int getResultsNo() {
+    return results.size();
+  }
+
+  private void register(Node node) {
+    if (node.level > 0 && !canonicalNodes.containsKey(node)) {
+      register(node.northWest);
+      register(node.northEast);
+      register(node.southWest);
+      register(node.southEast);
+      canonicalNodes.put(node, node);
+    }
+  }
+
+  private Node computeFuture(Node node, int stepLog2) {
+    final var nw = node.northWest;
+    final var ne = node.northEast;
+    final var sw = node.southWest;
+    final var se = node.southEast;
+    final var north = join(nw.northEast, ne.northWest, nw.southEast, ne.southWest);
+    final var west = join(nw.southWest, nw.southEast, sw.northWest, sw.northEast);
+    final var centre = join(nw.southEast, ne.southWest, sw.northEast, se.northWest);
+    final var east = join(ne.southWest, ne.southEast, se.northWest, se.northEast);
+    final var south = join(sw.northEast, se.northWest, sw.southEast, se.southWest);
+    final var fullSpeed = stepLog2 == node.level - 2;
+    final var firstStepLog2 = node.level - 3;
+    final var n00 = advanceOrCentre(nw, fullSpeed, firstStepLog2);
+    final var n01 = advanceOrCentre(north, fullSpeed, firstStepLog2);
+    final var n02 = advanceOrCentre(ne, fullSpeed, firstStepLog2);
+    final var n10 = advanceOrCentre(west, fullSpeed, firstStepLog2);
+    final var n11 = advanceOrCentre(centre, fullSpeed, firstStepLog2);
+    final var n12 = advanceOrCentre(east, fullSpeed, firstStepLog2);
+    final var n20 = advanceOrCentre(sw, fullSpeed, firstStepLog2);
+    final var n21 = advanceOrCentre(south, fullSpeed, firstStepLog2);
+    final var n22 = advanceOrCentre(se, fullSpeed, firstStepLog2);
+    final var secondStepLog2 = fullSpeed ? firstStepLog2 : stepLog2;
+    return join(getFuture(join(n00, n01, n10, n11), secondStepLog2),
+        getFuture(join(n01, n02, n11, n12), secondStepLog2),
+        getFuture(join(n10, n11, n20, n21), secondStepLog2),
+        getFuture(join(n11, n12, n21, n22), secondStepLog2));
+  }
+
+  private Node advanceOrCentre(Node node, boolean advance, int stepLog2) {
+    return advance ? getFuture(node, stepLog2) : getCentre(node);
+  }
+
+  private Node getBaseFuture(Node node) {
+    var cells = new int[BASE_SIZE][BASE_SIZE];
+    fillCells(node, cells, 0, 0);
+    return join(getBaseCellFuture(cells, 1, 1), getBaseCellFuture(cells, 1, 2),
+        getBaseCellFuture(cells, 2, 1), getBaseCellFuture(cells, 2, 2));
+  }
+
+  private Node getBaseCellFuture(int[][] cells, int coordinateX, int coordinateY) {
+    var livingNeighboursNo = -cells[coordinateX][coordinateY];
+    for (int neighbourX = coordinateX - 1; neighbourX <= coordinateX + 1; neighbourX++) {
+      for (int neighbourY = coordinateY - 1; neighbourY <= coordinateY + 1; neighbourY++) {
+        livingNeighboursNo += cells[neighbourX][neighbourY];
+      }
+    }
+    var nextState = rule.getNextState(cells[coordinateX][coordinateY], livingNeighboursNo);
+    return nextState == Rule.ALIVE_STATE ? Node.ALIVE_LEAF : Node.DEAD_LEAF;
+  }
+
+  private void fillCells(Node node, int[][] cells, int coordinateX, int coordinateY) {
+    if (node.level == 0) {
+      cells[coordinateX][coordinateY] = (int) node.population;
+      return;
+    }
+    var half = 1 << (node.level - 1);
+    fillCells(node.northWest, cells, coordinateX, coordinateY);
+    fillCells(node.northEast, cells, coordinateX, coordinateY + half);
+    fillCells(node.southWest, cells, coordinateX + half, coordinateY);
+    fillCells(node.southEast, cells, coordinateX + half, coordinateY + half);
+  }
+
+  private static final class ResultKey {
+    private final Node node;
+    private final int stepLog2;
+
+    private ResultKey(Node node, int stepLog2) {
+      this.node = node;
+      this.stepLog2 = stepLog2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      ResultKey that = (ResultKey) o;
+      return node == that.node && stepLog2 == that.stepLog2;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(node, stepLog2);
+    }
+  }
+}
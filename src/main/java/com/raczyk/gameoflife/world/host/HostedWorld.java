@@ -0,0 +1,144 @@
+package com.raczyk.gameoflife.world.host;
+
+import com.raczyk.gameoflife.world.AdvanceControl;
+import com.raczyk.gameoflife.world.WorldEngine;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class representing a world run by SimulationHost.
+ * At most one quantum of the world is scheduled at a time. Pausing stops the running quantum
+ * after its current generation and keeps the world from being scheduled until it is resumed.
+ */
+public final class HostedWorld {
+  private final SimulationHost host;
+  private final WorldEngine world;
+  private final long generationsNo;
+  private final AtomicBoolean paused;
+  private final AtomicBoolean cancelled;
+  private final AtomicBoolean scheduled;
+  private final AdvanceControl control;
+  private final CompletableFuture<HostedWorld> completion;
+  private final Queue<CompletableFuture<HostedWorld>> stops;
+  private volatile long advancedNo;
+
+  HostedWorld(SimulationHost host, WorldEngine world, long generationsNo) {
+    this.host = host;
+    this.world = world;
+    this.generationsNo = generationsNo;
+    this.paused = new AtomicBoolean();
+    this.cancelled = new AtomicBoolean();
+    this.scheduled = new AtomicBoolean();
+    this.control = new AdvanceControl() {
+      @Override
+      public boolean isCancelled() {
+        return paused.get() || cancelled.get();
+      }
+    };
+    this.completion = new CompletableFuture<>();
+    this.stops = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * Method pausing the world. Quantum in progress stops after its current generation.
+   *
+   * @return future completed when no quantum of the world is running any more.
+   */
+  public CompletableFuture<HostedWorld> pause() {
+    paused.set(true);
+    var stop = new CompletableFuture<HostedWorld>();
+    stops.add(stop);
+    completeStops();
+    return stop;
+  }
+
+  /**
+   * Method resuming a paused world.
+   */
+  public void resume() {
+    paused.set(false);
+    schedule();
+  }
+
+  /**
+   * Method cancelling the world, which completes exceptionally when its quantum stops.
+   */
+  public void cancel() {
+    cancelled.set(true);
+    completion.cancel(false);
+  }
+
+  public boolean isPaused() {
+    return paused.get();
+  }
+
+  public WorldEngine getWorld() {
+    return world;
+  }
+
+  /**
+   * Method returning number of generations advanced by the host so far.
+   * World should be read only when the future returned by pause or the completion is done.
+   *
+   * @return number of generations advanced by the host.
+   */
+  public long getAdvancedNo() {
+    return advancedNo;
+  }
+
+  /**
+   * Method returning future completed when the world advances by all requested generations,
+   * or completed exceptionally when it is cancelled or its step fails.
+   *
+   * @return completion of the world.
+   */
+  public CompletableFuture<HostedWorld> getCompletion() {
+    return completion;
+  }
+
+  void schedule() {
+    if (!paused.get() && !completion.isDone() && scheduled.compareAndSet(false, true)) {
+      host.execute(this::runQuantum);
+    }
+  }
+
+  private void runQuantum() {
+    try {
+      host.acquireStepper();
+      try {
+        advanceQuantum();
+      } finally {
+        host.releaseStepper();
+      }
+    } catch (InterruptedException e) {
+      // Host is shutting down, world stays where its last quantum left it.
+      Thread.currentThread().interrupt();
+      scheduled.set(false);
+      completeStops();
+      return;
+    } catch (RuntimeException e) {
+      completion.completeExceptionally(e);
+    }
+    scheduled.set(false);
+    completeStops();
+    schedule();
+  }
+
+  private void completeStops() {
+    if (!scheduled.get()) {
+      for (var stop = stops.poll(); stop != null; stop = stops.poll()) {
+        stop.complete(this);
+      }
+    }
+  }
+
+  private void advanceQuantum() {
+    final var quantum = Math.min(host.getGenerationsPerQuantum(), generationsNo - advancedNo);
+    advancedNo += world.advance(quantum, control);
+    if (advancedNo == generationsNo) {
+      completion.complete(this);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.raczyk.gameoflife.world.host;
+
+import com.raczyk.gameoflife.world.WorldEngine;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class representing host running many independent worlds without a driving thread per world.
+ * Each world advances in quanta of a fixed number of generations; after a quantum the world
+ * is submitted again at the end of the executor queue, so worlds share the CPU fairly.
+ * Semaphore caps the number of worlds stepping at the same time.
+ * On a JVM with virtual threads, every quantum runs on a virtual thread; otherwise quanta run
+ * on a fixed pool with as many threads as concurrent steppers allowed.
+ */
+public class SimulationHost implements AutoCloseable {
+  private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+  private final ExecutorService executor;
+  private final Semaphore stepperPermits;
+  private final long generationsPerQuantum;
+
+  /**
+   * Constructs a host allowing one stepping world per available processor,
+   * advancing each world by given number of generations per quantum.
+   *
+   * @param generationsPerQuantum number of generations a world advances before yielding.
+   */
+  public SimulationHost(long generationsPerQuantum) {
+    this(Runtime.getRuntime().availableProcessors(), generationsPerQuantum);
+  }
+
+  /**
+   * Constructs a host running quanta on virtual threads when they are available,
+   * or on a fixed pool of maxSteppersNo threads otherwise.
+   *
+   * @param maxSteppersNo maximal number of worlds stepping at the same time.
+   * @param generationsPerQuantum number of generations a world advances before yielding.
+   */
+  public SimulationHost(int maxSteppersNo, long generationsPerQuantum) {
+    this(newExecutor(maxSteppersNo), maxSteppersNo, generationsPerQuantum);
+  }
+
+  /**
+   * Constructs a host running quanta on given executor, which is shut down when host is closed.
+   *
+   * @param executor executor running quanta of worlds.
+   * @param maxSteppersNo maximal number of worlds stepping at the same time.
+   * @param generationsPerQuantum number of generations a world advances before yielding.
+   */
+  public SimulationHost(ExecutorService executor, int maxSteppersNo, long generationsPerQuantum) {
+    this.executor = executor;
+    this.stepperPermits = new Semaphore(maxSteppersNo, true);
+    this.generationsPerQuantum = generationsPerQuantum;
+  }
+
+  /**
+   * Method starting to run given world until it is cancelled.
+   *
+   * @param world world advanced by the host.
+   * @return handle to pause, resume or cancel the world.
+   */
+  public HostedWorld submit(WorldEngine world) {
+    return submit(world, Long.MAX_VALUE);
+  }
+
+  /**
+   * Method starting to run given world until it advances by given number of generations.
+   *
+   * @param world world advanced by the host.
+   * @param generationsNo number of generations to advance, not negative.
+   * @return handle to pause, resume or cancel the world and wait for its completion.
+   */
+  public HostedWorld submit(WorldEngine world, long generationsNo) {
+    var hostedWorld = new HostedWorld(this, world, generationsNo);
+    hostedWorld.schedule();
+    return hostedWorld;
+  }
+
+  /**
+   * Method stopping to accept quanta and waiting for already submitted quanta to finish.
+   * Worlds which are not completed stay not completed.
+   * When waiting is interrupted, the interrupt flag of the calling thread is restored.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  long getGenerationsPerQuantum() {
+    return generationsPerQuantum;
+  }
+
+  void execute(Runnable quantum) {
+    try {
+      executor.execute(quantum);
+    } catch (RejectedExecutionException e) {
+      // Host is closed, world stays where its last quantum left it.
+    }
+  }
+
+  void acquireStepper() throws InterruptedException {
+    stepperPermits.acquire();
+  }
+
+  void releaseStepper() {
+    stepperPermits.release();
+  }
+
+  private static ExecutorService newExecutor(int maxSteppersNo) {
+    try {
+      return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY)
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newFixedThreadPool(maxSteppersNo);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.raczyk.gameoflife.world.init;
+
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Class filling matrices of cells with random states, 64 cells per random word.
+ * Every column (cells sharing coordinate x) is a stripe with its own SplittableRandom, split
+ * from the seeded root in column order before any column is filled. Columns are then filled
+ * in parallel, yet the same seed always gives the same cells, whatever the number of threads.
+ * Density is quantized to 1/65536: each bit of the density, from the least significant one,
+ * combines the word built so far with a new random word, with or when the bit is set
+ * and with and otherwise, so density 0.5 costs a single random word per 64 cells.
+ */
+public final class BulkInitializer {
+  private static final int PRECISION_BITS = 16;
+  private static final int FULL_DENSITY = 1 << PRECISION_BITS;
+
+  private final long seed;
+  private final double density;
+  private final long initialWord;
+  private final long[] combineMasks;
+
+  /**
+   * Constructs an initializer making cells alive with probability 0.5.
+   *
+   * @param seed seed of the random states.
+   */
+  public BulkInitializer(long seed) {
+    this(seed, 0.5);
+  }
+
+  /**
+   * Constructs an initializer making cells alive with given probability.
+   *
+   * @param seed seed of the random states.
+   * @param density probability of a cell being alive, from 0 to 1.
+   */
+  public BulkInitializer(long seed, double density) {
+    if (!(density >= 0 && density <= 1)) {
+      throw new IllegalArgumentException("Density must be between 0 and 1, got " + density);
+    }
+    this.seed = seed;
+    this.density = density;
+    final var fraction = (int) Math.round(density * FULL_DENSITY);
+    final var lowestBit = Math.min(Integer.numberOfTrailingZeros(fraction), PRECISION_BITS);
+    this.initialWord = fraction == FULL_DENSITY ? -1L : 0L;
+    this.combineMasks = IntStream.range(lowestBit, PRECISION_BITS)
+        .mapToLong(bitNo -> -(long) (fraction >>> bitNo & 1))
+        .toArray();
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public double getDensity() {
+    return density;
+  }
+
+  /**
+   * Method creating a matrix of given size filled with random states.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @return matrix of random cells.
+   */
+  public BitGrid generate(int maxColumnNo, int maxRowNo) {
+    var cells = new BitGrid(maxColumnNo, maxRowNo);
+    fill(cells);
+    return cells;
+  }
+
+  /**
+   * Method replacing all cells of the matrix with random states, filling columns in parallel.
+   *
+   * @param cells matrix to fill.
+   */
+  public void fill(BitGrid cells) {
+    fill(cells.getMaxColumnNo(), cells.getMaxRowNo(), cells::setColumn);
+  }
+
+  /**
+   * Method generating random columns of a matrix in parallel and passing them to the writer,
+   * which may be called from many threads, but never twice for the same column.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param columnWriter writer storing a column given as words of 64 cells.
+   */
+  public void fill(int maxColumnNo, int maxRowNo, ColumnWriter columnWriter) {
+    final var root = new SplittableRandom(seed);
+    final var stripes = new SplittableRandom[maxColumnNo];
+    for (int coordinateX = 0; coordinateX < stripes.length; coordinateX++) {
+      stripes[coordinateX] = root.split();
+    }
+    final var wordsPerColumn = (maxRowNo + Long.SIZE - 1) / Long.SIZE;
+    IntStream.range(0, stripes.length).parallel().forEach(coordinateX -> {
+      var column = new long[wordsPerColumn];
+      for (int wordNo = 0; wordNo < column.length; wordNo++) {
+        column[wordNo] = nextWord(stripes[coordinateX]);
+      }
+      columnWriter.setColumn(coordinateX, column);
+    });
+  }
+
+  private long nextWord(SplittableRandom random) {
+    var word = initialWord;
+    for (long combineMask : combineMasks) {
+      var randomWord = random.nextLong();
+      word = randomWord & word | combineMask & (randomWord | word);
+    }
+    return word;
+  }
+
+  /**
+   * Interface representing destination of generated columns.
+   */
+  @FunctionalInterface
+  public interface ColumnWriter {
+
+    /**
+     * Method storing a column of the matrix. Bits beyond the last row are random
+     * and have to be cleared by the writer.
+     *
+     * @param coordinateX column of the matrix.
+     * @param column words of the column, 64 cells per word.
+     */
+    void setColumn(int coordinateX, long[] column);
+  }
+}
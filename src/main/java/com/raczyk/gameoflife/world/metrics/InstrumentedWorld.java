@@ -0,0 +1,140 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.WorldEngine;
+import java.io.IOException;
+import java.util.Random;
+import jdk.jfr.EventType;
+
+/**
+ * Class representing World decorated with metrics and Flight Recorder events.
+ * Each operation emits WorldOperationEvent and, while metrics are enabled, records its latency
+ * in WorldMetrics. Evolving to the next generation also records population, births
+ * and deaths, which World counts as a by-product of evolving its frontier.
+ * Whether metrics and the event are enabled is read once per operation. The clock is read
+ * only for enabled metrics and the event is created only while a recording enables it.
+ * Representation is measured in appendRepresentation, which getWorldRepresentation uses.
+ */
+public class InstrumentedWorld implements WorldEngine {
+  private static final EventType EVENT_TYPE = EventType.getEventType(WorldOperationEvent.class);
+  private static final WorldOperationEvent NO_EVENT = new WorldOperationEvent();
+
+  private final World world;
+  private final WorldMetrics metrics;
+  private long generation;
+
+  /**
+   * Constructs instrumented world recording to new, enabled metrics.
+   *
+   * @param world world to instrument.
+   */
+  public InstrumentedWorld(World world) {
+    this(world, new WorldMetrics());
+  }
+
+  /**
+   * Constructs instrumented world recording to given metrics.
+   *
+   * @param world world to instrument.
+   * @param metrics metrics where latencies and generations are recorded.
+   */
+  public InstrumentedWorld(World world, WorldMetrics metrics) {
+    this.world = world;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void initWorld(Random random) {
+    final var enabled = metrics.isEnabled();
+    final var recorded = EVENT_TYPE.isEnabled();
+    final var event = begin(recorded);
+    final var start = startTime(enabled);
+    world.initWorld(random);
+    generation = 0;
+    recordGeneration(enabled);
+    finish(Operation.INIT_WORLD, event, recorded, enabled, start);
+  }
+
+  @Override
+  public void setNextGeneration() {
+    final var enabled = metrics.isEnabled();
+    final var recorded = EVENT_TYPE.isEnabled();
+    final var event = begin(recorded);
+    final var start = startTime(enabled);
+    world.setNextGeneration();
+    finish(Operation.SET_NEXT_GENERATION, event, recorded, enabled, start);
+  }
+
+  @Override
+  public void evolveToNextGeneration() {
+    final var enabled = metrics.isEnabled();
+    final var recorded = EVENT_TYPE.isEnabled();
+    final var event = begin(recorded);
+    final var start = startTime(enabled);
+    world.evolveToNextGeneration();
+    generation++;
+    recordGeneration(enabled);
+    finish(Operation.EVOLVE_TO_NEXT_GENERATION, event, recorded, enabled, start);
+  }
+
+  @Override
+  public void appendRepresentation(Appendable output) throws IOException {
+    final var enabled = metrics.isEnabled();
+    final var recorded = EVENT_TYPE.isEnabled();
+    final var event = begin(recorded);
+    final var start = startTime(enabled);
+    world.appendRepresentation(output);
+    finish(Operation.REPRESENTATION, event, recorded, enabled, start);
+  }
+
+  public World getWorld() {
+    return world;
+  }
+
+  public WorldMetrics getMetrics() {
+    return metrics;
+  }
+
+  private static WorldOperationEvent begin(boolean recorded) {
+    return recorded ? beginEvent() : NO_EVENT;
+  }
+
+  private static WorldOperationEvent beginEvent() {
+    var event = new WorldOperationEvent();
+    event.begin();
+    return event;
+  }
+
+  private static long startTime(boolean enabled) {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  private void finish(Operation operation, WorldOperationEvent event, boolean recorded,
+      boolean enabled, long start) {
+    if (enabled) {
+      metrics.recordLatency(operation, System.nanoTime() - start);
+    }
+    if (recorded) {
+      event.end();
+      commit(operation, event);
+    }
+  }
+
+  private void commit(Operation operation, WorldOperationEvent event) {
+    if (event.shouldCommit()) {
+      event.operation = operation.name();
+      event.generation = generation;
+      event.population = world.getPopulation();
+      event.birthsNo = world.getBirthsNo();
+      event.deathsNo = world.getDeathsNo();
+      event.commit();
+    }
+  }
+
+  private void recordGeneration(boolean enabled) {
+    if (enabled) {
+      metrics.recordGeneration(generation, world.getPopulation(), world.getBirthsNo(),
+          world.getDeathsNo());
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class representing histogram of latencies in nanoseconds, safe to record from many threads.
+ * Values are counted in log-linear buckets: every power of two is split into eight buckets,
+ * so a percentile is reported with relative error below 12.5%, while recording a value
+ * is a few shifts and one atomic increment. Maximum is recorded exactly.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int BUCKETS_NO = (Long.SIZE + 1) << SUB_BUCKET_BITS;
+  private static final double PERCENT = 100.0;
+
+  private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS_NO);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Method recording a single latency.
+   *
+   * @param nanos latency in nanoseconds, not negative.
+   */
+  public void record(long nanos) {
+    bucketCounts.incrementAndGet(getBucketNo(nanos));
+    count.incrementAndGet();
+    max.accumulateAndGet(nanos, Math::max);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Method returning latency below or equal to which given percent of recorded latencies fall.
+   * Value is the upper bound of the bucket holding the percentile, never above the maximum.
+   *
+   * @param percentile percent of latencies, from 0 to 100.
+   * @return latency in nanoseconds, 0 when nothing was recorded.
+   */
+  public long getPercentile(double percentile) {
+    final var rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * count.get()));
+    final var maxBucketNo = getBucketNo(max.get());
+    var counted = 0L;
+    var bucketNo = 0;
+    while (bucketNo < maxBucketNo && counted + bucketCounts.get(bucketNo) < rank) {
+      counted += bucketCounts.get(bucketNo);
+      bucketNo++;
+    }
+    return Math.min(getBucketUpperBound(bucketNo), max.get());
+  }
+
+  /**
+   * Method returning percentiles 50 and 99, maximum and number of recorded latencies.
+   *
+   * @return summary of recorded latencies.
+   */
+  public LatencySummary getSummary() {
+    return new LatencySummary(getCount(), getPercentile(50), getPercentile(99), getMax());
+  }
+
+  static int getBucketNo(long nanos) {
+    final var shift = Math.max(Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos), SUB_BUCKET_BITS)
+        - SUB_BUCKET_BITS;
+    return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+  }
+
+  static long getBucketUpperBound(int bucketNo) {
+    final var shift = Math.max((bucketNo >> SUB_BUCKET_BITS) - 1, 0);
+    final var lowerBound = (long) (bucketNo - (shift << SUB_BUCKET_BITS)) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,51 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Class representing summary of latencies of an operation, in nanoseconds.
+ * Getters follow the MXBean conventions, so the summary is visible in JMX as composite data.
+ */
+public final class LatencySummary {
+  private final long count;
+  private final long p50;
+  private final long p99;
+  private final long max;
+
+  /**
+   * Constructs a summary of latencies.
+   *
+   * @param count number of recorded latencies.
+   * @param p50 median latency.
+   * @param p99 latency of percentile 99.
+   * @param max maximal latency.
+   */
+  @ConstructorProperties({"count", "p50", "p99", "max"})
+  public LatencySummary(long count, long p50, long p99, long max) {
+    this.count = count;
+    this.p50 = p50;
+    this.p99 = p99;
+    this.max = max;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getP50() {
+    return p50;
+  }
+
+  public long getP99() {
+    return p99;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + count + ", p50=" + p50 + "ns, p99=" + p99 + "ns, max=" + max + "ns";
+  }
+}
@@ -0,0 +1,11 @@
+package com.raczyk.gameoflife.world.metrics;
+
+/**
+ * Enum representing operations of a world which are measured by InstrumentedWorld.
+ */
+public enum Operation {
+  INIT_WORLD,
+  SET_NEXT_GENERATION,
+  EVOLVE_TO_NEXT_GENERATION,
+  REPRESENTATION
+}
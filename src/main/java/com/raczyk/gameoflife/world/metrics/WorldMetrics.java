@@ -0,0 +1,123 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Class representing metrics of a world: latency histogram of each operation, population
+ * and births and deaths of the last generation, together with their totals.
+ * Metrics are recorded by InstrumentedWorld only while they are enabled, so disabled metrics
+ * cost a single volatile read per operation.
+ */
+public class WorldMetrics implements WorldMetricsView {
+  private static final String OBJECT_NAME_PATTERN = "com.raczyk.gameoflife:type=World,name=";
+
+  private final Map<Operation, LatencyHistogram> latencyHistograms;
+  private final AtomicLong totalBirthsNo;
+  private final AtomicLong totalDeathsNo;
+  private volatile boolean enabled;
+  private volatile long generation;
+  private volatile long population;
+  private volatile long birthsNo;
+  private volatile long deathsNo;
+
+  /**
+   * Constructs enabled metrics with empty histograms and counters.
+   */
+  public WorldMetrics() {
+    this.latencyHistograms = new EnumMap<>(Operation.class);
+    Arrays.stream(Operation.values())
+        .forEach(operation -> latencyHistograms.put(operation, new LatencyHistogram()));
+    this.totalBirthsNo = new AtomicLong();
+    this.totalDeathsNo = new AtomicLong();
+    this.enabled = true;
+  }
+
+  /**
+   * Method registering metrics in the platform MBean server under the given name.
+   *
+   * @param name name of the world, unique among registered worlds.
+   * @return name under which metrics are registered.
+   * @throws JMException when name is not valid or is already registered.
+   */
+  public ObjectName register(String name) throws JMException {
+    var objectName = new ObjectName(OBJECT_NAME_PATTERN + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    return objectName;
+  }
+
+  void recordLatency(Operation operation, long nanos) {
+    latencyHistograms.get(operation).record(nanos);
+  }
+
+  void recordGeneration(long generation, long population, long birthsNo, long deathsNo) {
+    this.generation = generation;
+    this.population = population;
+    this.birthsNo = birthsNo;
+    this.deathsNo = deathsNo;
+    totalBirthsNo.addAndGet(birthsNo);
+    totalDeathsNo.addAndGet(deathsNo);
+  }
+
+  public LatencySummary getLatency(Operation operation) {
+    return latencyHistograms.get(operation).getSummary();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public long getGeneration() {
+    return generation;
+  }
+
+  @Override
+  public long getPopulation() {
+    return population;
+  }
+
+  @Override
+  public long getBirthsNo() {
+    return birthsNo;
+  }
+
+  @Override
+  public long getDeathsNo() {
+    return deathsNo;
+  }
+
+  @Override
+  public long getTotalBirthsNo() {
+    return totalBirthsNo.get();
+  }
+
+  @Override
+  public long getTotalDeathsNo() {
+    return totalDeathsNo.get();
+  }
+
+  /**
+   * Method returning latency summary of each operation, keyed by the operation name.
+   *
+   * @return latency summaries of all operations.
+   */
+  @Override
+  public Map<String, LatencySummary> getLatencies() {
+    return latencyHistograms.entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().name(),
+            entry -> entry.getValue().getSummary()));
+  }
+}
@@ -0,0 +1,29 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * Interface representing metrics of a world exposed through JMX as an MXBean.
+ */
+@MXBean
+public interface WorldMetricsView {
+
+  boolean isEnabled();
+
+  void setEnabled(boolean enabled);
+
+  long getGeneration();
+
+  long getPopulation();
+
+  long getBirthsNo();
+
+  long getDeathsNo();
+
+  long getTotalBirthsNo();
+
+  long getTotalDeathsNo();
+
+  Map<String, LatencySummary> getLatencies();
+}
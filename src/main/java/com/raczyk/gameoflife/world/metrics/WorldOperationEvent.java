@@ -0,0 +1,33 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class representing Flight Recorder event emitted for each measured operation of a world.
+ * When no recording enables the event, creating and ending it is optimized away by the JIT.
+ */
+@Name("com.raczyk.gameoflife.WorldOperation")
+@Label("World Operation")
+@Category("Game of Life")
+@Description("Operation of a world together with its generation, population and churn")
+class WorldOperationEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Generation")
+  long generation;
+
+  @Label("Population")
+  long population;
+
+  @Label("Births")
+  long birthsNo;
+
+  @Label("Deaths")
+  long deathsNo;
+}
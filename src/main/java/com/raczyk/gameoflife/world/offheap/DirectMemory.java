@@ -0,0 +1,48 @@
+package com.raczyk.gameoflife.world.offheap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class allocating and releasing direct buffers.
+ * Memory of a direct buffer is normally returned only when the buffer is garbage collected;
+ * release frees it at once through the cleaner of the buffer, found reflectively in
+ * sun.misc.Unsafe. When the cleaner is not accessible, release leaves the memory to the
+ * garbage collector.
+ */
+final class DirectMemory {
+  private static final MethodType RELEASE_TYPE = MethodType.methodType(void.class,
+      ByteBuffer.class);
+  private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+  private DirectMemory() {
+  }
+
+  static ByteBuffer allocate(long bytesNo) {
+    return ByteBuffer.allocateDirect(Math.toIntExact(bytesNo)).order(ByteOrder.nativeOrder());
+  }
+
+  static void release(ByteBuffer buffer) {
+    try {
+      INVOKE_CLEANER.invokeExact(buffer);
+    } catch (Throwable e) {
+      throw new IllegalStateException("Direct buffer cannot be released", e);
+    }
+  }
+
+  private static MethodHandle findInvokeCleaner() {
+    try {
+      var unsafeClass = Class.forName("sun.misc.Unsafe");
+      var unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+      unsafeField.setAccessible(true);
+      return MethodHandles.lookup()
+          .findVirtual(unsafeClass, "invokeCleaner", RELEASE_TYPE)
+          .bindTo(unsafeField.get(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return MethodHandles.empty(RELEASE_TYPE);
+    }
+  }
+}
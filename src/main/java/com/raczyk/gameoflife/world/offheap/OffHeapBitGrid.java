@@ -0,0 +1,225 @@
+package com.raczyk.gameoflife.world.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class representing matrix of cells packed into bits of words stored outside of the heap.
+ * Layout is the one of BitGrid: each column (cells sharing coordinate x) is a vector of words
+ * surrounded by guard words, and the matrix is surrounded by guard columns of dead cells.
+ * Words live in direct buffers of at most 1 GiB, called chunks, each holding whole columns,
+ * so matrices larger than the heap, or than a single buffer, can be stored. The heap holds only
+ * the chunk descriptors. Memory is allocated when the matrix is created and released
+ * at once when it is closed; the matrix cannot be used afterwards. Only one close releases
+ * the memory, but closing does not wait for accesses in progress, so owners have to make sure
+ * the matrix is not read or written while it is closed.
+ */
+public final class OffHeapBitGrid implements AutoCloseable {
+  private static final int GUARD_WORDS = 2;
+  private static final int WORD_INDEX_SHIFT = 6;
+  private static final long MAX_CHUNK_WORDS = 1L << 27;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final int wordsPerColumn;
+  private final int stride;
+  private final int columnsPerChunk;
+  private final ByteBuffer[] buffers;
+  private final LongBuffer[] chunks;
+  private final AtomicBoolean open;
+
+  /**
+   * Constructs a matrix of dead cells with given number of columns and rows,
+   * allocating its memory outside of the heap.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public OffHeapBitGrid(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, MAX_CHUNK_WORDS);
+  }
+
+  OffHeapBitGrid(int maxColumnNo, int maxRowNo, long maxChunkWords) {
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.wordsPerColumn = (maxRowNo + Long.SIZE - 1) / Long.SIZE;
+    this.stride = wordsPerColumn + GUARD_WORDS;
+    this.columnsPerChunk = (int) Math.max(1, maxChunkWords / stride);
+    final var storedColumnsNo = maxColumnNo + GUARD_WORDS;
+    final var chunksNo = (storedColumnsNo + columnsPerChunk - 1) / columnsPerChunk;
+    this.buffers = new ByteBuffer[chunksNo];
+    this.chunks = new LongBuffer[chunksNo];
+    for (int chunkNo = 0; chunkNo < chunksNo; chunkNo++) {
+      var chunkColumnsNo = Math.min(columnsPerChunk, storedColumnsNo - chunkNo * columnsPerChunk);
+      buffers[chunkNo] = DirectMemory.allocate((long) chunkColumnsNo * stride * Long.BYTES);
+      chunks[chunkNo] = buffers[chunkNo].asLongBuffer();
+    }
+    this.open = new AtomicBoolean(true);
+  }
+
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  public int getWordsPerColumn() {
+    return wordsPerColumn;
+  }
+
+  public int getChunksNo() {
+    return chunks.length;
+  }
+
+  public boolean isOpen() {
+    return open.get();
+  }
+
+  /**
+   * Method returning chunk holding words of given column.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @return chunk with the column.
+   */
+  public LongBuffer getChunk(int coordinateX) {
+    return chunks[(coordinateX + 1) / columnsPerChunk];
+  }
+
+  /**
+   * Method returning index of the first word of given column in its chunk.
+   * Guard words of the column are stored just before and after it.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @return index of the word holding cell with coordinates (coordinateX, 0).
+   */
+  public int getColumnOffset(int coordinateX) {
+    return (coordinateX + 1) % columnsPerChunk * stride + 1;
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX column of the cell.
+   * @param coordinateY row of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  public int getCell(int coordinateX, int coordinateY) {
+    ensureOpen();
+    var word = getChunk(coordinateX).get(getWordIndex(coordinateX, coordinateY));
+    return (int) (word >>> coordinateY) & 1;
+  }
+
+  public boolean isAlive(int coordinateX, int coordinateY) {
+    return getCell(coordinateX, coordinateY) == 1;
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX column of the cell.
+   * @param coordinateY row of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    ensureOpen();
+    var chunk = getChunk(coordinateX);
+    var index = getWordIndex(coordinateX, coordinateY);
+    var bit = 1L << coordinateY;
+    chunk.put(index, chunk.get(index) & ~bit | -(long) state & bit);
+  }
+
+  /**
+   * Method copying words of a column into the given array.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @param column array of at least wordsPerColumn words where the column is copied.
+   */
+  public void getColumn(int coordinateX, long[] column) {
+    ensureOpen();
+    final var chunk = getChunk(coordinateX);
+    final var offset = getColumnOffset(coordinateX);
+    for (int wordNo = 0; wordNo < wordsPerColumn; wordNo++) {
+      column[wordNo] = chunk.get(offset + wordNo);
+    }
+  }
+
+  /**
+   * Method replacing words of a column with words from the given array.
+   * Bits beyond the last row are cleared.
+   *
+   * @param coordinateX column of the matrix, from -1 to maxColumnNo to include guard columns.
+   * @param column array of at least wordsPerColumn words copied to the column.
+   */
+  public void setColumn(int coordinateX, long[] column) {
+    ensureOpen();
+    final var chunk = getChunk(coordinateX);
+    final var offset = getColumnOffset(coordinateX);
+    final var lastWordNo = wordsPerColumn - 1;
+    for (int wordNo = 0; wordNo < lastWordNo; wordNo++) {
+      chunk.put(offset + wordNo, column[wordNo]);
+    }
+    chunk.put(offset + lastWordNo, column[lastWordNo] & getWordMask(lastWordNo));
+  }
+
+  /**
+   * Method returning the number of alive cells in the matrix.
+   *
+   * @return number of alive cells.
+   */
+  public long getPopulation() {
+    ensureOpen();
+    var population = 0L;
+    for (int coordinateX = 0; coordinateX < maxColumnNo; coordinateX++) {
+      var chunk = getChunk(coordinateX);
+      var offset = getColumnOffset(coordinateX);
+      for (int wordNo = 0; wordNo < wordsPerColumn; wordNo++) {
+        population += Long.bitCount(chunk.get(offset + wordNo));
+      }
+    }
+    return population;
+  }
+
+  /**
+   * Method returning mask of bits which represent existing cells in given word of a column.
+   * Only the last word of a column can contain bits beyond the last row.
+   *
+   * @param wordNo index of the word within a column.
+   * @return mask with bits set for existing cells.
+   */
+  public long getWordMask(int wordNo) {
+    var bitsBeyondLastRow = Math.max(0, (wordNo + 1) * Long.SIZE - maxRowNo);
+    return -1L >>> bitsBeyondLastRow;
+  }
+
+  /**
+   * Method releasing memory of the matrix. Closing a closed matrix has no effect,
+   * also when the matrix is closed by several threads at once.
+   */
+  @Override
+  public void close() {
+    if (open.compareAndSet(true, false)) {
+      Arrays.fill(chunks, null);
+      Arrays.stream(buffers).forEach(DirectMemory::release);
+      Arrays.fill(buffers, null);
+    }
+  }
+
+  /**
+   * Method checking that the matrix was not closed, before its memory is accessed.
+   *
+   * @throws IllegalStateException when the matrix is closed.
+   */
+  void ensureOpen() {
+    if (!open.get()) {
+      throw new IllegalStateException("Off-heap matrix is closed");
+    }
+  }
+
+  private int getWordIndex(int coordinateX, int coordinateY) {
+    return getColumnOffset(coordinateX) + (coordinateY >>> WORD_INDEX_SHIFT);
+  }
+}
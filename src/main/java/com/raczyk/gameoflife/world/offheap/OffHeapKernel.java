@@ -0,0 +1,62 @@
+package com.raczyk.gameoflife.world.offheap;
+
+import com.raczyk.gameoflife.world.bitboard.BitLifeKernel;
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class computing next generation of an off-heap matrix directly in its chunks.
+ * Words of the west, the same and the east column are read through a sliding window of three
+ * words per column, so each word is loaded once per neighbouring column, and the next
+ * generation of 64 cells is computed by BitLifeKernel.
+ */
+public final class OffHeapKernel {
+
+  private OffHeapKernel() {
+  }
+
+  /**
+   * Method computing next generation of columns from the given range.
+   * Columns outside of the range are not changed in target matrix.
+   *
+   * @param rule rule applied to cells.
+   * @param source matrix with current generation of cells.
+   * @param target matrix of the same size where next generation is written.
+   * @param fromColumn first column to compute (inclusive).
+   * @param toColumn last column to compute (exclusive).
+   */
+  public static void step(Rule rule, OffHeapBitGrid source, OffHeapBitGrid target,
+                          int fromColumn, int toColumn) {
+    final var wordsPerColumn = source.getWordsPerColumn();
+    final var lastWordNo = wordsPerColumn - 1;
+    final var lastWordMask = source.getWordMask(lastWordNo);
+    for (int coordinateX = fromColumn; coordinateX < toColumn; coordinateX++) {
+      final var westChunk = source.getChunk(coordinateX - 1);
+      final var chunk = source.getChunk(coordinateX);
+      final var eastChunk = source.getChunk(coordinateX + 1);
+      final var targetChunk = target.getChunk(coordinateX);
+      final var west = source.getColumnOffset(coordinateX - 1);
+      final var offset = source.getColumnOffset(coordinateX);
+      final var east = source.getColumnOffset(coordinateX + 1);
+      var westPrevious = westChunk.get(west - 1);
+      var westCurrent = westChunk.get(west);
+      var previous = chunk.get(offset - 1);
+      var current = chunk.get(offset);
+      var eastPrevious = eastChunk.get(east - 1);
+      var eastCurrent = eastChunk.get(east);
+      for (int wordNo = 0; wordNo < wordsPerColumn; wordNo++) {
+        final var westNext = westChunk.get(west + wordNo + 1);
+        final var next = chunk.get(offset + wordNo + 1);
+        final var eastNext = eastChunk.get(east + wordNo + 1);
+        final var word = BitLifeKernel.evolve(rule, westPrevious, westCurrent, westNext,
+            previous, current, next, eastPrevious, eastCurrent, eastNext);
+        targetChunk.put(offset + wordNo, wordNo == lastWordNo ? word & lastWordMask : word);
+        westPrevious = westCurrent;
+        westCurrent = westNext;
+        previous = current;
+        current = next;
+        eastPrevious = eastCurrent;
+        eastCurrent = eastNext;
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.raczyk.gameoflife.world.offheap;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.init.BulkInitializer;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Class representing world build with matrices of cells packed into bits outside of the heap.
+ * Each generation is stored in an OffHeapBitGrid and the next generation is computed
+ * by OffHeapKernel in blocks of columns, in parallel on the common pool. Heap usage does not
+ * depend on the world size, so neither do garbage collection pauses; the world has to be closed
+ * to release its memory. Direct memory available to the JVM is limited by
+ * -XX:MaxDirectMemorySize. Cells outside of the grid are treated as dead, so the world
+ * is bounded and, with the same rule, evolves as World does with Topology.BOUNDED.
+ * Closing waits for a generation being established, as its blocks are computed on other threads;
+ * other accesses to cells must not overlap closing the world.
+ */
+public class OffHeapWorld implements GridWorldEngine, AutoCloseable {
+  private static final int BLOCK_COLUMNS_NO = 64;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final Rule rule;
+  private final ReadWriteLock closeLock;
+  private OffHeapBitGrid currentGeneration;
+  private OffHeapBitGrid nextGeneration;
+  private long generation;
+
+  /**
+   * Constructs a world of dead cells with given number of columns and rows passed as parameter,
+   * evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public OffHeapWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs a world of dead cells with given number of columns and rows passed as parameter,
+   * evolving with given rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   */
+  public OffHeapWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    this(new OffHeapBitGrid(maxColumnNo, maxRowNo), new OffHeapBitGrid(maxColumnNo, maxRowNo),
+        rule);
+  }
+
+  OffHeapWorld(OffHeapBitGrid currentGeneration, OffHeapBitGrid nextGeneration, Rule rule) {
+    this.maxColumnNo = currentGeneration.getMaxColumnNo();
+    this.maxRowNo = currentGeneration.getMaxRowNo();
+    this.rule = rule;
+    this.currentGeneration = currentGeneration;
+    this.nextGeneration = nextGeneration;
+    this.closeLock = new ReentrantReadWriteLock();
+  }
+
+  /**
+   * Method initializing world matrix with states generated in bulk, 64 cells per random word,
+   * written directly into the columns of the current generation.
+   *
+   * @param initializer initializer generating states of cells.
+   */
+  public void initWorld(BulkInitializer initializer) {
+    initializer.fill(maxColumnNo, maxRowNo, currentGeneration::setColumn);
+  }
+
+  /**
+   * Method establishing next generation of cells in the second matrix,
+   * leaving the current generation untouched.
+   *
+   * @throws IllegalStateException when the world is closed.
+   */
+  @Override
+  public void setNextGeneration() {
+    closeLock.readLock().lock();
+    try {
+      currentGeneration.ensureOpen();
+      nextGeneration.ensureOpen();
+      final var source = currentGeneration;
+      final var target = nextGeneration;
+      final var blocksNo = (maxColumnNo + BLOCK_COLUMNS_NO - 1) / BLOCK_COLUMNS_NO;
+      IntStream.range(0, blocksNo).parallel().forEach(blockNo -> OffHeapKernel.step(rule,
+          source, target, blockNo * BLOCK_COLUMNS_NO,
+          Math.min(maxColumnNo, (blockNo + 1) * BLOCK_COLUMNS_NO)));
+    } finally {
+      closeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Method evolving cells to the new generation by swapping matrices.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    var previousGeneration = currentGeneration;
+    currentGeneration = nextGeneration;
+    nextGeneration = previousGeneration;
+    generation++;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return currentGeneration.getCell(coordinateX, coordinateY);
+  }
+
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    currentGeneration.setCell(coordinateX, coordinateY, state);
+  }
+
+  /**
+   * Method returning matrix holding current generation of cells.
+   * Changes made to the returned matrix are visible in the world.
+   *
+   * @return matrix with current generation of cells.
+   */
+  public OffHeapBitGrid getCurrentGeneration() {
+    return currentGeneration;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Method releasing memory of both generations, after a generation being established
+   * is completed. World cannot be used afterwards.
+   */
+  @Override
+  public void close() {
+    closeLock.writeLock().lock();
+    try {
+      currentGeneration.close();
+      nextGeneration.close();
+    } finally {
+      closeLock.writeLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.raczyk.gameoflife.world.rle;
+
+/**
+ * Interface representing storage of a world where cells can be read from,
+ * for example getCell method of a world or of a BitGrid.
+ */
+@FunctionalInterface
+public interface CellGetter {
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 otherwise.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  int getCell(int coordinateX, int coordinateY);
+}
@@ -0,0 +1,18 @@
+package com.raczyk.gameoflife.world.rle;
+
+/**
+ * Interface representing storage of a world where cells can be placed,
+ * for example setCell method of a world or of a BitGrid.
+ */
+@FunctionalInterface
+public interface CellSetter {
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  void setCell(int coordinateX, int coordinateY, int state);
+}
@@ -0,0 +1,100 @@
+package com.raczyk.gameoflife.world.rle;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Class representing header line of a pattern in RLE format, "x = m, y = n, rule = B3/S23".
+ * Width of the pattern (x) is the number of cells in a line of the world representation,
+ * that is the number of rows, and height (y) is the number of lines, that is the number
+ * of columns. Rule is optional and Conway's rule is assumed when it is missing.
+ */
+public final class RleHeader {
+  private static final String WIDTH_KEY = "x";
+  private static final String HEIGHT_KEY = "y";
+  private static final String RULE_KEY = "rule";
+  private static final String FIELD_SEPARATOR = ",";
+  private static final String VALUE_SEPARATOR = "=";
+
+  private final int width;
+  private final int height;
+  private final Rule rule;
+
+  /**
+   * Constructs header of a pattern with given size and rule.
+   *
+   * @param width number of cells in each line of the pattern.
+   * @param height number of lines of the pattern.
+   * @param rule rule the pattern evolves with.
+   */
+  public RleHeader(int width, int height, Rule rule) {
+    this.width = width;
+    this.height = height;
+    this.rule = rule;
+  }
+
+  /**
+   * Method parsing header line of a pattern.
+   *
+   * @param line header line, for example "x = 3, y = 3, rule = B3/S23".
+   * @return parsed header.
+   * @throws IOException when line is not a valid header.
+   */
+  public static RleHeader parse(String line) throws IOException {
+    var width = -1;
+    var height = -1;
+    var rule = Rule.CONWAY;
+    try {
+      for (String field : line.split(FIELD_SEPARATOR)) {
+        var keyAndValue = field.split(VALUE_SEPARATOR, 2);
+        var key = keyAndValue[0].trim();
+        var value = keyAndValue.length > 1 ? keyAndValue[1].trim() : "";
+        width = WIDTH_KEY.equals(key) ? Integer.parseInt(value) : width;
+        height = HEIGHT_KEY.equals(key) ? Integer.parseInt(value) : height;
+        rule = RULE_KEY.equals(key) ? Rule.parse(value) : rule;
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid RLE header: " + line, e);
+    }
+    if (width < 0 || height < 0) {
+      throw new IOException("RLE header without pattern size: " + line);
+    }
+    return new RleHeader(width, height, rule);
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RleHeader that = (RleHeader) o;
+    return width == that.width && height == that.height && Objects.equals(rule, that.rule);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(width, height, rule);
+  }
+
+  @Override
+  public String toString() {
+    return WIDTH_KEY + " = " + width + ", " + HEIGHT_KEY + " = " + height + ", "
+        + RULE_KEY + " = " + rule;
+  }
+}
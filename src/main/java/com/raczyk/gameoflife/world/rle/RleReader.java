@@ -0,0 +1,119 @@
+package com.raczyk.gameoflife.world.rle;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Class reading pattern in RLE format in a single pass.
+ * Header is read first, so that the world can be created with size and rule of the pattern,
+ * then alive cells are passed one by one to a CellSetter while the body is read, without
+ * keeping the pattern in memory. Line n of the pattern is placed at coordinate x equal to n,
+ * so the world is presented in the same way as the pattern is drawn.
+ */
+public final class RleReader {
+  private static final String COMMENT_PREFIX = "#";
+  private static final int END_OF_STREAM = -1;
+  private static final int RADIX = 10;
+  private static final char END_OF_PATTERN = '!';
+  private static final char END_OF_LINE = '$';
+  private static final char DEAD_CELL = 'b';
+  private static final char DEAD_CELL_ALTERNATIVE = '.';
+  private static final char ALIVE_CELL = 'o';
+
+  private final BufferedReader reader;
+  private RleHeader header;
+
+  /**
+   * Constructs reader of a pattern from the given source, which is buffered when needed.
+   *
+   * @param reader source of the pattern.
+   */
+  public RleReader(Reader reader) {
+    this.reader = reader instanceof BufferedReader
+        ? (BufferedReader) reader : new BufferedReader(reader);
+  }
+
+  /**
+   * Method reading header of the pattern, skipping comment lines before it.
+   * It has to be called before readCells method.
+   *
+   * @return header of the pattern.
+   * @throws IOException when source cannot be read or it has no valid header.
+   */
+  public RleHeader readHeader() throws IOException {
+    var line = reader.readLine();
+    while (line != null && (line.isBlank() || line.startsWith(COMMENT_PREFIX))) {
+      line = reader.readLine();
+    }
+    if (line == null) {
+      throw new IOException("RLE header not found");
+    }
+    header = RleHeader.parse(line);
+    return header;
+  }
+
+  /**
+   * Method reading body of the pattern and placing its alive cells in the given storage.
+   * Dead cells are skipped, so storage is expected to contain dead cells only.
+   * Every run is checked against the size given in the header before it is placed,
+   * so cells never land outside of a storage created with that size.
+   *
+   * @param cells storage where alive cells are placed.
+   * @return number of alive cells placed.
+   * @throws IOException when source cannot be read, header was not read, a run exceeds
+   *     the size given in the header or the body contains an unknown tag.
+   */
+  public long readCells(CellSetter cells) throws IOException {
+    if (header == null) {
+      throw new IOException("RLE header has to be read before cells");
+    }
+    final var linesNo = header.getHeight();
+    final var cellsPerLineNo = header.getWidth();
+    var coordinateX = 0;
+    var coordinateY = 0;
+    var runLength = 0;
+    var aliveCellsNo = 0L;
+    for (int character = reader.read();
+         character != END_OF_STREAM && character != END_OF_PATTERN;
+         character = reader.read()) {
+      var digit = Character.digit(character, RADIX);
+      if (digit >= 0) {
+        runLength = runLength * RADIX + digit;
+        continue;
+      }
+      if (Character.isWhitespace(character)) {
+        continue;
+      }
+      var cellsNo = Math.max(1, runLength);
+      runLength = 0;
+      if (character == END_OF_LINE) {
+        coordinateX += cellsNo;
+        coordinateY = 0;
+        checkRun(coordinateX <= linesNo, "more lines than " + linesNo);
+        continue;
+      }
+      checkRun(coordinateX < linesNo && coordinateY + cellsNo <= cellsPerLineNo,
+          "run of " + cellsNo + " cells at (" + coordinateX + ", " + coordinateY
+              + ") outside of " + linesNo + " lines of " + cellsPerLineNo + " cells");
+      if (character == DEAD_CELL || character == DEAD_CELL_ALTERNATIVE) {
+        coordinateY += cellsNo;
+      } else if (character == ALIVE_CELL) {
+        for (int cellNo = 0; cellNo < cellsNo; cellNo++) {
+          cells.setCell(coordinateX, coordinateY++, Rule.ALIVE_STATE);
+        }
+        aliveCellsNo += cellsNo;
+      } else {
+        throw new IOException("Unknown RLE tag '" + (char) character + "'");
+      }
+    }
+    return aliveCellsNo;
+  }
+
+  private static void checkRun(boolean insidePattern, String message) throws IOException {
+    if (!insidePattern) {
+      throw new IOException("RLE pattern exceeds its header: " + message);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.raczyk.gameoflife.world.rle;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Class writing pattern in RLE format incrementally.
+ * Cells are read one line at a time and each run is written as soon as it ends, so memory used
+ * does not depend on the pattern size. Dead cells at the end of a line and empty lines at the end
+ * of the pattern are omitted, and lines of the output are kept within 70 characters.
+ */
+public final class RleWriter {
+  private static final int MAX_LINE_LENGTH = 70;
+  private static final char END_OF_PATTERN = '!';
+  private static final char END_OF_LINE = '$';
+  private static final char NEW_LINE = '\n';
+  private static final char[] CELL_TAGS = {'b', 'o'};
+
+  private final Writer writer;
+  private int lineLength;
+
+  public RleWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Method writing the whole pattern, header and body, to the output.
+   * Output is flushed, but not closed.
+   *
+   * @param header header with size and rule of the pattern.
+   * @param cells storage from which cells are read, line n of the pattern from coordinate x n.
+   * @throws IOException when output cannot be written.
+   */
+  public void write(RleHeader header, CellGetter cells) throws IOException {
+    writer.write(header.toString());
+    writer.write(NEW_LINE);
+    lineLength = 0;
+    var pendingLinesNo = 0;
+    for (int coordinateX = 0; coordinateX < header.getHeight(); coordinateX++) {
+      var deadCellsNo = 0;
+      var aliveCellsNo = 0;
+      for (int coordinateY = 0; coordinateY < header.getWidth(); coordinateY++) {
+        if (cells.getCell(coordinateX, coordinateY) == Rule.ALIVE_STATE) {
+          aliveCellsNo++;
+          continue;
+        }
+        if (aliveCellsNo > 0) {
+          writeRuns(pendingLinesNo, deadCellsNo, aliveCellsNo);
+          pendingLinesNo = 0;
+          deadCellsNo = 0;
+          aliveCellsNo = 0;
+        }
+        deadCellsNo++;
+      }
+      if (aliveCellsNo > 0) {
+        writeRuns(pendingLinesNo, deadCellsNo, aliveCellsNo);
+        pendingLinesNo = 0;
+      }
+      pendingLinesNo++;
+    }
+    writer.write(END_OF_PATTERN);
+    writer.write(NEW_LINE);
+    writer.flush();
+  }
+
+  private void writeRuns(int linesNo, int deadCellsNo, int aliveCellsNo) throws IOException {
+    writeRun(linesNo, END_OF_LINE);
+    writeRun(deadCellsNo, CELL_TAGS[Rule.DEAD_STATE]);
+    writeRun(aliveCellsNo, CELL_TAGS[Rule.ALIVE_STATE]);
+  }
+
+  private void writeRun(int length, char tag) throws IOException {
+    if (length == 0) {
+      return;
+    }
+    var count = length == 1 ? "" : Integer.toString(length);
+    if (lineLength + count.length() + 1 > MAX_LINE_LENGTH) {
+      writer.write(NEW_LINE);
+      lineLength = 0;
+    }
+    writer.write(count);
+    writer.write(tag);
+    lineLength += count.length() + 1;
+  }
+}
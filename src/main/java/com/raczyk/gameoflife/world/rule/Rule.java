@@ -0,0 +1,192 @@
+package com.raczyk.gameoflife.world.rule;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Class representing Life-like rule given in B/S notation, for example "B3/S23".
+ * Digits after "B" are numbers of living neighbours which make a dead cell alive,
+ * digits after "S" are numbers of living neighbours which keep an alive cell alive.
+ * The rulestring is compiled once into bit masks and a lookup table indexed by cell state
+ * and number of living neighbours, so applying the rule needs no search.
+ */
+public final class Rule {
+  public static final int DEAD_STATE = 0;
+  public static final int ALIVE_STATE = 1;
+  public static final int MAX_NEIGHBOURS_NO = 8;
+
+  private static final int NEIGHBOURS_NUMBERS_NO = MAX_NEIGHBOURS_NO + 1;
+  private static final int ALL_NEIGHBOURS_NUMBERS_MASK = (1 << NEIGHBOURS_NUMBERS_NO) - 1;
+  private static final List<RuleNotation> NOTATIONS = List.of(
+      new RuleNotation(Pattern.compile("B([0-8]*)/S([0-8]*)", Pattern.CASE_INSENSITIVE), 1, 2),
+      new RuleNotation(Pattern.compile("S([0-8]*)/B([0-8]*)", Pattern.CASE_INSENSITIVE), 2, 1)
+  );
+
+  public static final Rule CONWAY = parse("B3/S23");
+
+  private final int birthMask;
+  private final int survivalMask;
+  private final int[] nextStateTable;
+  private final long[] birthWords;
+  private final long[] survivalWords;
+
+  private Rule(int birthMask, int survivalMask) {
+    this.birthMask = birthMask & ALL_NEIGHBOURS_NUMBERS_MASK;
+    this.survivalMask = survivalMask & ALL_NEIGHBOURS_NUMBERS_MASK;
+    this.nextStateTable = IntStream.concat(toStates(this.birthMask), toStates(this.survivalMask))
+        .toArray();
+    this.birthWords = toWords(this.birthMask);
+    this.survivalWords = toWords(this.survivalMask);
+  }
+
+  /**
+   * Method compiling rule given in B/S notation. Both "B3/S23" and "S23/B3" forms are accepted,
+   * letters can be lower case.
+   *
+   * @param rulestring rule in B/S notation.
+   * @return compiled rule.
+   * @throws IllegalArgumentException when rulestring is not in B/S notation.
+   */
+  public static Rule parse(String rulestring) {
+    return NOTATIONS.stream()
+        .map(notation -> notation.compile(rulestring.trim()))
+        .flatMap(Optional::stream)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Rule not in B/S notation: " + rulestring));
+  }
+
+  /**
+   * Method creating rule from masks of neighbour numbers, where bit n is set
+   * when n living neighbours cause birth or survival respectively.
+   *
+   * @param birthMask mask of neighbour numbers causing birth of a dead cell.
+   * @param survivalMask mask of neighbour numbers keeping an alive cell alive.
+   * @return compiled rule.
+   */
+  public static Rule of(int birthMask, int survivalMask) {
+    return new Rule(birthMask, survivalMask);
+  }
+
+  public int getBirthMask() {
+    return birthMask;
+  }
+
+  public int getSurvivalMask() {
+    return survivalMask;
+  }
+
+  /**
+   * Method returning next state of a cell.
+   *
+   * @param state current state of a cell, ALIVE_STATE or DEAD_STATE.
+   * @param livingNeighboursNo number of living neighbours, from 0 to 8.
+   * @return next state of a cell, ALIVE_STATE or DEAD_STATE.
+   */
+  public int getNextState(int state, int livingNeighboursNo) {
+    return nextStateTable[state * NEIGHBOURS_NUMBERS_NO + livingNeighboursNo];
+  }
+
+  /**
+   * Method applying rule to 64 cells at once. Number of living neighbours of each cell
+   * is given as four bit-sliced words, where countBit0 holds the least significant bits.
+   *
+   * @param countBit0 bits of weight 1 of neighbour numbers.
+   * @param countBit1 bits of weight 2 of neighbour numbers.
+   * @param countBit2 bits of weight 4 of neighbour numbers.
+   * @param countBit3 bits of weight 8 of neighbour numbers.
+   * @param current current generation of cells.
+   * @return next generation of cells.
+   */
+  public long evolve(long countBit0, long countBit1, long countBit2, long countBit3,
+                     long current) {
+    final var zero = ~countBit1 & ~countBit0;
+    final var one = ~countBit1 & countBit0;
+    final var two = countBit1 & ~countBit0;
+    final var three = countBit1 & countBit0;
+    final var belowFour = ~countBit2 & ~countBit3;
+    return belowFour & (zero & select(0, current) | one & select(1, current)
+            | two & select(2, current) | three & select(3, current))
+        | countBit2 & (zero & select(4, current) | one & select(5, current)
+            | two & select(6, current) | three & select(7, current))
+        | countBit3 & select(8, current);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Rule rule = (Rule) o;
+    return birthMask == rule.birthMask && survivalMask == rule.survivalMask;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * birthMask + survivalMask;
+  }
+
+  /**
+   * Method returning rule in B/S notation.
+   *
+   * @return rulestring, for example "B3/S23".
+   */
+  @Override
+  public String toString() {
+    return "B" + toDigits(birthMask) + "/S" + toDigits(survivalMask);
+  }
+
+  private long select(int livingNeighboursNo, long current) {
+    final var birth = birthWords[livingNeighboursNo];
+    return birth ^ ((birth ^ survivalWords[livingNeighboursNo]) & current);
+  }
+
+  private static int toMask(String digits) {
+    return digits.chars()
+        .map(digit -> 1 << (digit - '0'))
+        .reduce(0, (first, second) -> first | second);
+  }
+
+  private static String toDigits(int mask) {
+    return IntStream.rangeClosed(0, MAX_NEIGHBOURS_NO)
+        .filter(livingNeighboursNo -> (mask >>> livingNeighboursNo & 1) == 1)
+        .mapToObj(Integer::toString)
+        .collect(Collectors.joining());
+  }
+
+  private static IntStream toStates(int mask) {
+    return IntStream.rangeClosed(0, MAX_NEIGHBOURS_NO)
+        .map(livingNeighboursNo -> mask >>> livingNeighboursNo & 1);
+  }
+
+  private static long[] toWords(int mask) {
+    return IntStream.rangeClosed(0, MAX_NEIGHBOURS_NO)
+        .mapToLong(livingNeighboursNo -> -(long) (mask >>> livingNeighboursNo & 1))
+        .toArray();
+  }
+
+  private static final class RuleNotation {
+    private final Pattern pattern;
+    private final int birthGroup;
+    private final int survivalGroup;
+
+    private RuleNotation(Pattern pattern, int birthGroup, int survivalGroup) {
+      this.pattern = pattern;
+      this.birthGroup = birthGroup;
+      this.survivalGroup = survivalGroup;
+    }
+
+    private Optional<Rule> compile(String rulestring) {
+      return Optional.of(pattern.matcher(rulestring))
+          .filter(Matcher::matches)
+          .map(matcher -> new Rule(toMask(matcher.group(birthGroup)),
+              toMask(matcher.group(survivalGroup))));
+    }
+  }
+}
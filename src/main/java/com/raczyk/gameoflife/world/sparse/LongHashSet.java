@@ -0,0 +1,172 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Class representing set of primitive long keys, stored with open addressing and linear probing.
+ * Keys are kept in a single long array, so adding and looking up keys creates no objects.
+ */
+public final class LongHashSet {
+  private static final long EMPTY_SLOT = Long.MIN_VALUE;
+  private static final int MIN_CAPACITY = 16;
+  private static final int LOAD_FACTOR_SHIFT = 1;
+
+  private long[] slots;
+  private int mask;
+  private int size;
+  private boolean containsEmptySlotKey;
+
+  /**
+   * Constructs an empty set.
+   */
+  public LongHashSet() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty set able to hold given number of keys without growing.
+   *
+   * @param expectedSize expected number of keys.
+   */
+  public LongHashSet(int expectedSize) {
+    allocate(LongHashing.getCapacity(expectedSize, MIN_CAPACITY, LOAD_FACTOR_SHIFT));
+  }
+
+  /**
+   * Method adding key to the set.
+   *
+   * @param key key to add.
+   * @return true when the key was not present in the set.
+   */
+  public boolean add(long key) {
+    if (key == EMPTY_SLOT) {
+      return addEmptySlotKey();
+    }
+    var slot = findSlot(key);
+    if (slots[slot] == key) {
+      return false;
+    }
+    slots[slot] = key;
+    size++;
+    growIfNeeded();
+    return true;
+  }
+
+  /**
+   * Method removing key from the set. Following keys of the probe sequence are shifted back,
+   * so no tombstones are left behind.
+   *
+   * @param key key to remove.
+   * @return true when the key was present in the set.
+   */
+  public boolean remove(long key) {
+    if (key == EMPTY_SLOT) {
+      return removeEmptySlotKey();
+    }
+    var slot = findSlot(key);
+    if (slots[slot] != key) {
+      return false;
+    }
+    var gap = slot;
+    var next = (gap + 1) & mask;
+    while (slots[next] != EMPTY_SLOT) {
+      var home = LongHashing.hash(slots[next]) & mask;
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        slots[gap] = slots[next];
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    slots[gap] = EMPTY_SLOT;
+    size--;
+    return true;
+  }
+
+  /**
+   * Method checking whether key is present in the set.
+   *
+   * @param key key to look up.
+   * @return true when the set contains the key.
+   */
+  public boolean contains(long key) {
+    return key == EMPTY_SLOT ? containsEmptySlotKey : slots[findSlot(key)] == key;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Method removing all keys from the set, keeping its capacity.
+   */
+  public void clear() {
+    Arrays.fill(slots, EMPTY_SLOT);
+    containsEmptySlotKey = false;
+    size = 0;
+  }
+
+  /**
+   * Method passing every key of the set to the consumer, in no particular order.
+   *
+   * @param consumer consumer of keys.
+   */
+  public void forEach(LongConsumer consumer) {
+    for (long key : slots) {
+      if (key != EMPTY_SLOT) {
+        consumer.accept(key);
+      }
+    }
+    if (containsEmptySlotKey) {
+      consumer.accept(EMPTY_SLOT);
+    }
+  }
+
+  private boolean addEmptySlotKey() {
+    if (containsEmptySlotKey) {
+      return false;
+    }
+    containsEmptySlotKey = true;
+    size++;
+    return true;
+  }
+
+  private boolean removeEmptySlotKey() {
+    if (!containsEmptySlotKey) {
+      return false;
+    }
+    containsEmptySlotKey = false;
+    size--;
+    return true;
+  }
+
+  private int findSlot(long key) {
+    var slot = LongHashing.hash(key) & mask;
+    while (slots[slot] != EMPTY_SLOT && slots[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void growIfNeeded() {
+    if (size << LOAD_FACTOR_SHIFT > slots.length) {
+      var previousSlots = slots;
+      allocate(slots.length << 1);
+      for (long key : previousSlots) {
+        if (key != EMPTY_SLOT) {
+          slots[findSlot(key)] = key;
+        }
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    slots = new long[capacity];
+    mask = capacity - 1;
+    Arrays.fill(slots, EMPTY_SLOT);
+  }
+}
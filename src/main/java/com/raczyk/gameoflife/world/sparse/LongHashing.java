@@ -0,0 +1,31 @@
+package com.raczyk.gameoflife.world.sparse;
+
+/**
+ * Class with helpers shared by primitive hash collections.
+ */
+final class LongHashing {
+  private static final long MIX_MULTIPLIER_1 = 0xBF58476D1CE4E5B9L;
+  private static final long MIX_MULTIPLIER_2 = 0x94D049BB133111EBL;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private LongHashing() {
+  }
+
+  /**
+   * Method spreading bits of the key, so that keys of neighbour points land in distant slots.
+   * It uses the finalizer of SplitMix64 generator.
+   */
+  static int hash(long key) {
+    var mixed = (key ^ (key >>> 30)) * MIX_MULTIPLIER_1;
+    mixed = (mixed ^ (mixed >>> 27)) * MIX_MULTIPLIER_2;
+    return (int) (mixed ^ (mixed >>> 31));
+  }
+
+  /**
+   * Method returning power of two capacity which keeps table below its load factor.
+   */
+  static int getCapacity(int expectedSize, int minCapacity, int loadFactorShift) {
+    var requiredCapacity = Math.max(minCapacity, (long) expectedSize << loadFactorShift);
+    return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(requiredCapacity - 1) << 1);
+  }
+}
@@ -0,0 +1,150 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import java.util.Arrays;
+
+/**
+ * Class representing map from primitive long keys to int values, stored with open addressing
+ * and linear probing. Missing keys have value 0. It is used to count living neighbours
+ * of points without boxing keys or values.
+ */
+public final class LongIntHashMap {
+  private static final long EMPTY_SLOT = Long.MIN_VALUE;
+  private static final int MIN_CAPACITY = 16;
+  private static final int LOAD_FACTOR_SHIFT = 1;
+
+  private long[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+  private boolean containsEmptySlotKey;
+  private int emptySlotKeyValue;
+
+  /**
+   * Constructs an empty map.
+   */
+  public LongIntHashMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty map able to hold given number of keys without growing.
+   *
+   * @param expectedSize expected number of keys.
+   */
+  public LongIntHashMap(int expectedSize) {
+    allocate(LongHashing.getCapacity(expectedSize, MIN_CAPACITY, LOAD_FACTOR_SHIFT));
+  }
+
+  /**
+   * Method adding delta to the value of the key, putting the key when it is missing.
+   *
+   * @param key key which value is changed.
+   * @param delta value added to the current value.
+   */
+  public void addTo(long key, int delta) {
+    if (key == EMPTY_SLOT) {
+      size += containsEmptySlotKey ? 0 : 1;
+      containsEmptySlotKey = true;
+      emptySlotKeyValue += delta;
+      return;
+    }
+    var slot = findSlot(key);
+    if (keys[slot] == key) {
+      values[slot] += delta;
+      return;
+    }
+    keys[slot] = key;
+    values[slot] = delta;
+    size++;
+    growIfNeeded();
+  }
+
+  /**
+   * Method returning value of the key.
+   *
+   * @param key key to look up.
+   * @return value of the key or 0 when the key is missing.
+   */
+  public int get(long key) {
+    if (key == EMPTY_SLOT) {
+      return emptySlotKeyValue;
+    }
+    var slot = findSlot(key);
+    return keys[slot] == key ? values[slot] : 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Method removing all keys from the map, keeping its capacity.
+   */
+  public void clear() {
+    Arrays.fill(keys, EMPTY_SLOT);
+    containsEmptySlotKey = false;
+    emptySlotKeyValue = 0;
+    size = 0;
+  }
+
+  /**
+   * Method passing every key of the map with its value to the consumer, in no particular order.
+   *
+   * @param consumer consumer of keys and values.
+   */
+  public void forEach(LongIntConsumer consumer) {
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (keys[slot] != EMPTY_SLOT) {
+        consumer.accept(keys[slot], values[slot]);
+      }
+    }
+    if (containsEmptySlotKey) {
+      consumer.accept(EMPTY_SLOT, emptySlotKeyValue);
+    }
+  }
+
+  private int findSlot(long key) {
+    var slot = LongHashing.hash(key) & mask;
+    while (keys[slot] != EMPTY_SLOT && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void growIfNeeded() {
+    if (size << LOAD_FACTOR_SHIFT > keys.length) {
+      var previousKeys = keys;
+      var previousValues = values;
+      allocate(keys.length << 1);
+      for (int slot = 0; slot < previousKeys.length; slot++) {
+        if (previousKeys[slot] != EMPTY_SLOT) {
+          var newSlot = findSlot(previousKeys[slot]);
+          keys[newSlot] = previousKeys[slot];
+          values[newSlot] = previousValues[slot];
+        }
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    Arrays.fill(keys, EMPTY_SLOT);
+  }
+
+  /**
+   * Interface representing operation accepting a long key and its int value.
+   */
+  @FunctionalInterface
+  public interface LongIntConsumer {
+
+    /**
+     * Method performing the operation on given key and value.
+     *
+     * @param key key of the map.
+     * @param value value of the key.
+     */
+    void accept(long key, int value);
+  }
+}
@@ -0,0 +1,152 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.PointKey;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.function.LongConsumer;
+
+/**
+ * Class representing unbounded world which stores only alive cells.
+ * Alive cells are kept as PointKey keys in a primitive hash set. To establish next generation,
+ * every alive cell adds itself to the living neighbour counters of its eight neighbours,
+ * so only alive cells and dead cells bordering them are visited. Memory and time of a step
+ * depend on the population, not on the area of the world.
+ * Number of columns and rows given in constructor only describe the part of the world which
+ * is initialized randomly and presented by getWorldRepresentation method. Cells may leave
+ * that part in any direction.
+ */
+public class SparseWorld implements GridWorldEngine {
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final Rule rule;
+  private final LongIntHashMap livingNeighbours;
+  private LongHashSet currentGeneration;
+  private LongHashSet nextGeneration;
+
+  /**
+   * Constructs an empty world evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns of the initialized and presented part of the world.
+   * @param maxRowNo number of rows of the initialized and presented part of the world.
+   */
+  public SparseWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs an empty world evolving with given rule.
+   *
+   * @param maxColumnNo number of columns of the initialized and presented part of the world.
+   * @param maxRowNo number of rows of the initialized and presented part of the world.
+   * @param rule rule applied to cells in each generation.
+   * @throws IllegalArgumentException when rule gives birth to cells without living neighbours,
+   *     which would fill the whole unbounded world.
+   */
+  public SparseWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    if (rule.getNextState(Rule.DEAD_STATE, 0) == Rule.ALIVE_STATE) {
+      throw new IllegalArgumentException("Rule " + rule + " cannot evolve unbounded world");
+    }
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.rule = rule;
+    this.livingNeighbours = new LongIntHashMap();
+    this.currentGeneration = new LongHashSet();
+    this.nextGeneration = new LongHashSet();
+  }
+
+  /**
+   * Method establishing next generation of alive cells, leaving the current one untouched.
+   */
+  @Override
+  public void setNextGeneration() {
+    livingNeighbours.clear();
+    nextGeneration.clear();
+    currentGeneration.forEach(this::countLivingNeighbours);
+    livingNeighbours.forEach(this::determineFutureState);
+  }
+
+  /**
+   * Method evolving cells to the new generation by swapping sets of alive cells.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    var previousGeneration = currentGeneration;
+    currentGeneration = nextGeneration;
+    nextGeneration = previousGeneration;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell, can be negative.
+   * @param coordinateY coordinate y of the cell, can be negative.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return currentGeneration.contains(PointKey.of(coordinateX, coordinateY))
+        ? Rule.ALIVE_STATE : Rule.DEAD_STATE;
+  }
+
+  public boolean isAlive(int coordinateX, int coordinateY) {
+    return getCell(coordinateX, coordinateY) == Rule.ALIVE_STATE;
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell, can be negative.
+   * @param coordinateY coordinate y of the cell, can be negative.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    var key = PointKey.of(coordinateX, coordinateY);
+    if (state == Rule.ALIVE_STATE) {
+      currentGeneration.add(key);
+    } else {
+      currentGeneration.remove(key);
+    }
+  }
+
+  public long getPopulation() {
+    return currentGeneration.size();
+  }
+
+  /**
+   * Method passing PointKey key of every alive cell to the consumer, in no particular order.
+   *
+   * @param consumer consumer of keys of alive cells.
+   */
+  public void forEachAliveCell(LongConsumer consumer) {
+    currentGeneration.forEach(consumer);
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  private void countLivingNeighbours(long key) {
+    livingNeighbours.addTo(key, 0);
+    for (int neighbourNo = 0; neighbourNo < PointKey.NEIGHBOURS_NO; neighbourNo++) {
+      livingNeighbours.addTo(PointKey.getNeighbourKey(key, neighbourNo), 1);
+    }
+  }
+
+  private void determineFutureState(long key, int livingNeighboursNo) {
+    var state = currentGeneration.contains(key) ? Rule.ALIVE_STATE : Rule.DEAD_STATE;
+    if (rule.getNextState(state, livingNeighboursNo) == Rule.ALIVE_STATE) {
+      nextGeneration.add(key);
+    }
+  }
+}
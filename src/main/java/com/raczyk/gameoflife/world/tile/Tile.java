@@ -0,0 +1,132 @@
+package com.raczyk.gameoflife.world.tile;
+
+import com.raczyk.gameoflife.world.bitboard.BitLifeKernel;
+import com.raczyk.gameoflife.world.rule.Rule;
+
+/**
+ * Class representing square of 64 x 64 cells evolved independently of other tiles.
+ * Each column of the tile (cells sharing coordinate x) is a single word with one bit per
+ * coordinate y. Columns are surrounded by a halo: the column on the west and on the east,
+ * and the words of the tiles with lower and higher coordinate y for each column, which are
+ * copied from neighbour tiles before each generation. Stepping reads only the tile and its halo,
+ * so all data touched by a step fits in the first level cache.
+ */
+final class Tile {
+  static final int SIZE = Long.SIZE;
+  static final int SIZE_SHIFT = 6;
+  static final int FIRST_COLUMN = 1;
+  static final int LAST_COLUMN = SIZE;
+  static final int WEST_HALO = 0;
+  static final int EAST_HALO = SIZE + 1;
+
+  private static final int HALO_COLUMNS_NO = SIZE + 2;
+
+  private final long[] columnMasks;
+  private final long[] previousWords;
+  private final long[] nextWords;
+  private long[] columns;
+  private long[] futureColumns;
+  private boolean empty;
+  private boolean futureEmpty;
+  private boolean stepped;
+
+  /**
+   * Constructs tile of dead cells where only given part of columns and rows belongs to the world.
+   *
+   * @param columnsNo number of columns of the tile within the world.
+   * @param rowsNo number of rows of the tile within the world.
+   */
+  Tile(int columnsNo, int rowsNo) {
+    this.columnMasks = new long[HALO_COLUMNS_NO];
+    var rowMask = -1L >>> (SIZE - rowsNo);
+    for (int column = FIRST_COLUMN; column <= columnsNo; column++) {
+      columnMasks[column] = rowMask;
+    }
+    this.previousWords = new long[HALO_COLUMNS_NO];
+    this.nextWords = new long[HALO_COLUMNS_NO];
+    this.columns = new long[HALO_COLUMNS_NO];
+    this.futureColumns = new long[HALO_COLUMNS_NO];
+    this.empty = true;
+  }
+
+  long getColumn(int column) {
+    return columns[column];
+  }
+
+  int getCell(int column, int row) {
+    return (int) (columns[column] >>> row) & 1;
+  }
+
+  void setCell(int column, int row, int state) {
+    var bit = 1L << row;
+    columns[column] = (columns[column] & ~bit) | (-(long) (state & 1) & bit & columnMasks[column]);
+    empty &= state == Rule.DEAD_STATE;
+  }
+
+  boolean isEmpty() {
+    return empty;
+  }
+
+  boolean isStepped() {
+    return stepped;
+  }
+
+  /**
+   * Method setting words of the column on the west or on the east of the tile,
+   * together with words of the tiles with lower and higher coordinate y.
+   */
+  void setHaloColumn(int column, long previousWord, long word, long nextWord) {
+    previousWords[column] = previousWord;
+    columns[column] = word;
+    nextWords[column] = nextWord;
+  }
+
+  /**
+   * Method setting words of the tiles with lower and higher coordinate y for own column.
+   */
+  void setHaloWords(int column, long previousWord, long nextWord) {
+    previousWords[column] = previousWord;
+    nextWords[column] = nextWord;
+  }
+
+  /**
+   * Method computing future generation of the tile from its cells and halo.
+   *
+   * @param rule rule applied to cells.
+   */
+  void step(Rule rule) {
+    var alive = 0L;
+    for (int column = FIRST_COLUMN; column <= LAST_COLUMN; column++) {
+      var futureColumn = BitLifeKernel.evolve(rule,
+          previousWords[column - 1], columns[column - 1], nextWords[column - 1],
+          previousWords[column], columns[column], nextWords[column],
+          previousWords[column + 1], columns[column + 1], nextWords[column + 1])
+          & columnMasks[column];
+      futureColumns[column] = futureColumn;
+      alive |= futureColumn;
+    }
+    stepped = true;
+    futureEmpty = alive == 0L;
+  }
+
+  /**
+   * Method making future generation current. Tiles which were not stepped keep their cells.
+   */
+  void evolve() {
+    if (stepped) {
+      var previousColumns = columns;
+      columns = futureColumns;
+      futureColumns = previousColumns;
+      empty = futureEmpty;
+    }
+    stepped = false;
+  }
+
+  long getPopulation() {
+    var population = 0L;
+    for (int column = FIRST_COLUMN; column <= LAST_COLUMN; column++) {
+      population += Long.bitCount(columns[column]);
+    }
+    return population;
+  }
+}
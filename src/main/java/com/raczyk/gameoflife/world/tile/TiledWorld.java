@@ -0,0 +1,232 @@
+package com.raczyk.gameoflife.world.tile;
+
+import com.raczyk.gameoflife.world.GridWorldEngine;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Class representing world build with tiles of 64 x 64 cells packed into bits.
+ * Before each generation every tile copies the edges of its eight neighbour tiles into its halo,
+ * then tiles are stepped independently and in parallel, each one touching only its own memory.
+ * Tiles which are empty and surrounded by empty tiles cannot change, so they are skipped,
+ * unless the rule gives birth to cells without living neighbours. Halos of tiles on the border
+ * of the world stay empty, so the world is bounded: with the same rule it evolves as World does
+ * with Topology.BOUNDED, and joined edges of torus or Klein bottle are not supported.
+ */
+public class TiledWorld implements GridWorldEngine {
+  private static final int TILE_MASK = Tile.SIZE - 1;
+
+  private final int maxColumnNo;
+  private final int maxRowNo;
+  private final int tileColumnsNo;
+  private final int tileRowsNo;
+  private final Rule rule;
+  private final ForkJoinPool pool;
+  private final boolean skippingEmptyTiles;
+  private final Tile[] tiles;
+  private final boolean[] activeTiles;
+  private long generation;
+
+  /**
+   * Constructs a world represented as tiles of dead cells with
+   * given number of columns and rows passed as parameter, evolving with Conway's rule.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   */
+  public TiledWorld(int maxColumnNo, int maxRowNo) {
+    this(maxColumnNo, maxRowNo, Rule.CONWAY);
+  }
+
+  /**
+   * Constructs a world represented as tiles of dead cells with
+   * given number of columns and rows passed as parameter, evolving with given rule.
+   * Tiles are stepped in the common ForkJoinPool.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   */
+  public TiledWorld(int maxColumnNo, int maxRowNo, Rule rule) {
+    this(maxColumnNo, maxRowNo, rule, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a world represented as tiles of dead cells with given number of columns
+   * and rows passed as parameter, evolving with given rule and stepping tiles in given pool.
+   *
+   * @param maxColumnNo number of columns in matrix of cells.
+   * @param maxRowNo number of rows in matrix of cells.
+   * @param rule rule applied to cells in each generation.
+   * @param pool pool of threads stepping tiles.
+   */
+  public TiledWorld(int maxColumnNo, int maxRowNo, Rule rule, ForkJoinPool pool) {
+    this.maxColumnNo = maxColumnNo;
+    this.maxRowNo = maxRowNo;
+    this.tileColumnsNo = (maxColumnNo + TILE_MASK) >>> Tile.SIZE_SHIFT;
+    this.tileRowsNo = (maxRowNo + TILE_MASK) >>> Tile.SIZE_SHIFT;
+    this.rule = rule;
+    this.pool = pool;
+    this.skippingEmptyTiles = rule.getNextState(Rule.DEAD_STATE, 0) == Rule.DEAD_STATE;
+    this.tiles = new Tile[tileColumnsNo * tileRowsNo];
+    this.activeTiles = new boolean[tiles.length];
+    for (int tileX = 0; tileX < tileColumnsNo; tileX++) {
+      for (int tileY = 0; tileY < tileRowsNo; tileY++) {
+        var columnsNo = Math.min(Tile.SIZE, maxColumnNo - (tileX << Tile.SIZE_SHIFT));
+        var rowsNo = Math.min(Tile.SIZE, maxRowNo - (tileY << Tile.SIZE_SHIFT));
+        tiles[getTileIndex(tileX, tileY)] = new Tile(columnsNo, rowsNo);
+      }
+    }
+  }
+
+  /**
+   * Method establishing next generation of cells. Halo of each tile is exchanged with its
+   * neighbours first, then active tiles are stepped in parallel, leaving current generation
+   * untouched.
+   */
+  @Override
+  public void setNextGeneration() {
+    pool.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, tiles.length).parallel()
+        .forEach(this::exchangeHalo)));
+    pool.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, tiles.length).parallel()
+        .filter(tileIndex -> activeTiles[tileIndex])
+        .forEach(tileIndex -> tiles[tileIndex].step(rule))));
+  }
+
+  /**
+   * Method evolving stepped tiles to the new generation by swapping their columns.
+   */
+  @Override
+  public void evolveToNextGeneration() {
+    for (Tile tile : tiles) {
+      tile.evolve();
+    }
+    generation++;
+  }
+
+  @Override
+  public int getMaxColumnNo() {
+    return maxColumnNo;
+  }
+
+  @Override
+  public int getMaxRowNo() {
+    return maxRowNo;
+  }
+
+  /**
+   * Method returning state of a cell as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @return 1 when cell is alive, 0 otherwise.
+   */
+  @Override
+  public int getCell(int coordinateX, int coordinateY) {
+    return getTile(coordinateX, coordinateY)
+        .getCell((coordinateX & TILE_MASK) + Tile.FIRST_COLUMN, coordinateY & TILE_MASK);
+  }
+
+  public boolean isAlive(int coordinateX, int coordinateY) {
+    return getCell(coordinateX, coordinateY) == Rule.ALIVE_STATE;
+  }
+
+  /**
+   * Method setting state of a cell given as a number, 1 for alive cell and 0 for dead cell.
+   *
+   * @param coordinateX coordinate x of the cell.
+   * @param coordinateY coordinate y of the cell.
+   * @param state 1 to make cell alive, 0 to make it dead.
+   */
+  @Override
+  public void setCell(int coordinateX, int coordinateY, int state) {
+    getTile(coordinateX, coordinateY)
+        .setCell((coordinateX & TILE_MASK) + Tile.FIRST_COLUMN, coordinateY & TILE_MASK, state);
+  }
+
+  /**
+   * Method counting alive cells of the current generation.
+   *
+   * @return number of alive cells.
+   */
+  public long getPopulation() {
+    return Arrays.stream(tiles).mapToLong(Tile::getPopulation).sum();
+  }
+
+  /**
+   * Method returning number of tiles stepped in the last generation.
+   * Other tiles were skipped, as they and their neighbours were empty.
+   *
+   * @return number of active tiles.
+   */
+  public int getActiveTilesNo() {
+    var activeTilesNo = 0;
+    for (boolean activeTile : activeTiles) {
+      activeTilesNo += activeTile ? 1 : 0;
+    }
+    return activeTilesNo;
+  }
+
+  public int getTilesNo() {
+    return tiles.length;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public Rule getRule() {
+    return rule;
+  }
+
+  private void exchangeHalo(int tileIndex) {
+    final var tileX = tileIndex / tileRowsNo;
+    final var tileY = tileIndex % tileRowsNo;
+    final var tile = tiles[tileIndex];
+    var active = !skippingEmptyTiles;
+    for (int neighbourX = tileX - 1; neighbourX <= tileX + 1; neighbourX++) {
+      for (int neighbourY = tileY - 1; neighbourY <= tileY + 1; neighbourY++) {
+        active |= !isTileEmpty(neighbourX, neighbourY);
+      }
+    }
+    activeTiles[tileIndex] = active;
+    if (!active) {
+      return;
+    }
+    tile.setHaloColumn(Tile.WEST_HALO,
+        getColumn(tileX - 1, tileY - 1, Tile.LAST_COLUMN),
+        getColumn(tileX - 1, tileY, Tile.LAST_COLUMN),
+        getColumn(tileX - 1, tileY + 1, Tile.LAST_COLUMN));
+    tile.setHaloColumn(Tile.EAST_HALO,
+        getColumn(tileX + 1, tileY - 1, Tile.FIRST_COLUMN),
+        getColumn(tileX + 1, tileY, Tile.FIRST_COLUMN),
+        getColumn(tileX + 1, tileY + 1, Tile.FIRST_COLUMN));
+    for (int column = Tile.FIRST_COLUMN; column <= Tile.LAST_COLUMN; column++) {
+      tile.setHaloWords(column, getColumn(tileX, tileY - 1, column),
+          getColumn(tileX, tileY + 1, column));
+    }
+  }
+
+  private boolean isTileEmpty(int tileX, int tileY) {
+    return !isTileInside(tileX, tileY) || tiles[getTileIndex(tileX, tileY)].isEmpty();
+  }
+
+  private long getColumn(int tileX, int tileY, int column) {
+    return isTileInside(tileX, tileY) ? tiles[getTileIndex(tileX, tileY)].getColumn(column) : 0L;
+  }
+
+  private boolean isTileInside(int tileX, int tileY) {
+    return tileX >= 0 && tileX < tileColumnsNo && tileY >= 0 && tileY < tileRowsNo;
+  }
+
+  private Tile getTile(int coordinateX, int coordinateY) {
+    return tiles[getTileIndex(coordinateX >>> Tile.SIZE_SHIFT, coordinateY >>> Tile.SIZE_SHIFT)];
+  }
+
+  private int getTileIndex(int tileX, int tileY) {
+    return tileX * tileRowsNo + tileY;
+  }
+}
@@ -0,0 +1,35 @@
+package com.raczyk.gameoflife.world;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferAppendableTest {
+
+  @Test
+  void append_CharactersAndTexts_BytesPutInOrder() {
+    // Given
+    var buffer = ByteBuffer.allocate(7);
+    var appendable = new ByteBufferAppendable(buffer);
+
+    // When
+    appendable.append('X').append(" # ").append("ABX", 2, 3).append(null, 0, 2);
+
+    // Then
+    assertThat(new String(buffer.array(), StandardCharsets.US_ASCII)).isEqualTo("X # Xnu");
+  }
+
+  @Test
+  void append_TextLongerThanRemainingBuffer_ExceptionThrown() {
+    // Given
+    var appendable = new ByteBufferAppendable(ByteBuffer.allocate(2));
+
+    // When Then
+    assertThatThrownBy(() -> appendable.append("X # "))
+        .isInstanceOf(BufferOverflowException.class);
+  }
+}
@@ -0,0 +1,50 @@
+package com.raczyk.gameoflife.world;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class PointKeyTest {
+
+  @Test
+  void of_ExtremeCoordinates_CoordinatesUnpackedFromKey() {
+    // Given
+    var coordinateX = Integer.MIN_VALUE;
+    var coordinateY = Integer.MAX_VALUE;
+
+    // When
+    var key = PointKey.of(coordinateX, coordinateY);
+
+    // Then
+    assertThat(PointKey.getCoordinateX(key)).isEqualTo(coordinateX);
+    assertThat(PointKey.getCoordinateY(key)).isEqualTo(coordinateY);
+  }
+
+  @Test
+  void of_PointsInTheSameColumn_KeysOrderedByCoordinateY() {
+    // When
+    var lowerKey = PointKey.of(5, -1);
+    var higherKey = PointKey.of(5, 0);
+
+    // Then
+    assertThat(lowerKey).isLessThan(higherKey);
+  }
+
+  @Test
+  void getNeighbourKey_PointWithZeroCoordinates_KeysOfNeighbourPoints() {
+    // Given
+    var point = new Point(0, 0);
+    var neighbourKeys = new ArrayList<Long>();
+
+    // When
+    for (int neighbourNo = 0; neighbourNo < PointKey.NEIGHBOURS_NO; neighbourNo++) {
+      neighbourKeys.add(PointKey.getNeighbourKey(point.toKey(), neighbourNo));
+    }
+
+    // Then
+    assertThat(neighbourKeys).containsExactlyInAnyOrder(PointKey.of(-1, -1),
+        PointKey.of(-1, 0), PointKey.of(-1, 1), PointKey.of(0, -1), PointKey.of(0, 1),
+        PointKey.of(1, -1), PointKey.of(1, 0), PointKey.of(1, 1));
+  }
+}
@@ -57,4 +57,30 @@ class PointTest {
         new Point(1, 2), new Point(1, 3), new Point(2, 1), new Point(2, 3),
         new Point(3, 1), new Point(3, 2), new Point(3, 3));
   }
+
+  @Test
+  void fromKey_KeyOfPointWithNegativeCoordinates_EqualPoint() {
+    // Given
+    var point = new Point(-3, -7);
+
+    // When
+    var restoredPoint = Point.fromKey(point.toKey());
+
+    // Then
+    assertThat(restoredPoint).isEqualTo(point);
+  }
+
+  @Test
+  void toKey_PointsWithSwappedCoordinates_DifferentKeys() {
+    // Given
+    var point = new Point(1, 2);
+    var swappedPoint = new Point(2, 1);
+
+    // When
+    var key = point.toKey();
+    var swappedKey = swappedPoint.toKey();
+
+    // Then
+    assertThat(key).isNotEqualTo(swappedKey);
+  }
 }
@@ -0,0 +1,70 @@
+package com.raczyk.gameoflife.world;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TopologyTest {
+  private static final int COLUMN_NO = 4;
+  private static final int ROW_NO = 5;
+
+  @Test
+  void wrap_BoundedTopologyPointBeyondEdge_SamePoint() {
+    // Given
+    var point = new Point(-1, 2);
+
+    // When
+    var wrappedPoint = Topology.BOUNDED.wrap(point, COLUMN_NO, ROW_NO);
+
+    // Then
+    assertThat(wrappedPoint).isSameAs(point);
+  }
+
+  @Test
+  void wrap_TorusPointBeyondCorner_OppositeCorner() {
+    // Given
+    var point = new Point(-1, ROW_NO);
+
+    // When
+    var wrappedPoint = Topology.TORUS.wrap(point, COLUMN_NO, ROW_NO);
+
+    // Then
+    assertThat(wrappedPoint).isEqualTo(new Point(COLUMN_NO - 1, 0));
+  }
+
+  @Test
+  void wrap_KleinBottlePointBeyondLastRow_FirstRowOfMirroredColumn() {
+    // Given
+    var point = new Point(1, ROW_NO);
+
+    // When
+    var wrappedPoint = Topology.KLEIN_BOTTLE.wrap(point, COLUMN_NO, ROW_NO);
+
+    // Then
+    assertThat(wrappedPoint).isEqualTo(new Point(COLUMN_NO - 2, 0));
+  }
+
+  @Test
+  void wrap_KleinBottlePointBeyondLastColumn_FirstColumnOfTheSameRow() {
+    // Given
+    var point = new Point(COLUMN_NO, 3);
+
+    // When
+    var wrappedPoint = Topology.KLEIN_BOTTLE.wrap(point, COLUMN_NO, ROW_NO);
+
+    // Then
+    assertThat(wrappedPoint).isEqualTo(new Point(0, 3));
+  }
+
+  @Test
+  void wrap_PointInsideWorld_EqualPoint() {
+    // Given
+    var point = new Point(2, 3);
+
+    // When
+    var wrappedPoint = Topology.TORUS.wrap(point, COLUMN_NO, ROW_NO);
+
+    // Then
+    assertThat(wrappedPoint).isEqualTo(point);
+  }
+}
@@ -0,0 +1,115 @@
+package com.raczyk.gameoflife.world;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.distributed.DistributedWorld;
+import com.raczyk.gameoflife.world.distributed.ThreadWorkerLauncher;
+import com.raczyk.gameoflife.world.grid.ByteGridWorld;
+import com.raczyk.gameoflife.world.grid.ScalarByteGridKernel;
+import com.raczyk.gameoflife.world.hashlife.HashLifeWorld;
+import com.raczyk.gameoflife.world.metrics.InstrumentedWorld;
+import com.raczyk.gameoflife.world.offheap.OffHeapWorld;
+import com.raczyk.gameoflife.world.rule.Rule;
+import com.raczyk.gameoflife.world.sparse.SparseWorld;
+import com.raczyk.gameoflife.world.tile.TiledWorld;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests use the same world as WorldTest, generated by Random with fixed seed equal to 4,
+ * and check that every engine draws and evolves it in the same way.
+ */
+class WorldEngineConformanceTest {
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  static Stream<Arguments> engines() {
+    return Stream.of(
+        engine("World", () -> new World(COLUMN_NO, ROW_NO, new HashMap<>())),
+        engine("BitBoardWorld", () -> new BitBoardWorld(COLUMN_NO, ROW_NO)),
+        engine("SparseWorld", () -> new SparseWorld(COLUMN_NO, ROW_NO)),
+        engine("HashLifeWorld", () -> new HashLifeWorld(COLUMN_NO, ROW_NO)),
+        engine("ByteGridWorld", () -> new ByteGridWorld(COLUMN_NO, ROW_NO)),
+        engine("ScalarByteGridWorld", () -> new ByteGridWorld(COLUMN_NO, ROW_NO, Rule.CONWAY,
+            Topology.BOUNDED, new ScalarByteGridKernel())),
+        engine("TiledWorld", () -> new TiledWorld(COLUMN_NO, ROW_NO)),
+        engine("OffHeapWorld", () -> new OffHeapWorld(COLUMN_NO, ROW_NO)),
+        engine("DistributedWorld", () -> newDistributedWorld()),
+        engine("InstrumentedWorld",
+            () -> new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>())))
+    );
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("engines")
+  void initWorld_RandomWithGivenSeed_SameRepresentationAsWorld(String name,
+      Supplier<WorldEngine> engine) throws Exception {
+    // Given
+    var world = engine.get();
+    var expectedSeedWorldRepresentation = "X X X \n"
+        + "X X # \n"
+        + "X # # \n";
+
+    try {
+      // When
+      world.initWorld(new Random(SEED));
+
+      // Then
+      assertThat(world.getWorldRepresentation()).isEqualTo(expectedSeedWorldRepresentation);
+    } finally {
+      close(world);
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("engines")
+  void evolveToNextGeneration_WorldInitializedWithRandomWithGivenSeed_ExpectedWorld(String name,
+      Supplier<WorldEngine> engine) throws Exception {
+    // Given
+    var world = engine.get();
+    var expectedWorldRepresentation = "X # X \n"
+        + "# # X \n"
+        + "X X # \n";
+
+    try {
+      world.initWorld(new Random(SEED));
+      world.setNextGeneration();
+
+      // When
+      world.evolveToNextGeneration();
+
+      // Then
+      assertThat(world.getWorldRepresentation()).isEqualTo(expectedWorldRepresentation);
+    } finally {
+      close(world);
+    }
+  }
+
+  private static Arguments engine(String name, Supplier<WorldEngine> engine) {
+    return Arguments.of(name, engine);
+  }
+
+  private static WorldEngine newDistributedWorld() {
+    try {
+      return new DistributedWorld(COLUMN_NO, ROW_NO, Rule.CONWAY, COLUMN_NO,
+          new ThreadWorkerLauncher());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void close(WorldEngine world) throws Exception {
+    if (world instanceof AutoCloseable) {
+      ((AutoCloseable) world).close();
+    }
+  }
+}
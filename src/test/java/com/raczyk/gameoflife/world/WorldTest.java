@@ -1,16 +1,27 @@
 package com.raczyk.gameoflife.world;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.ARRAY;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
 import com.raczyk.gameoflife.world.cell.Cell;
 import com.raczyk.gameoflife.world.cell.state.AliveCellState;
 import com.raczyk.gameoflife.world.cell.state.DeadCellState;
 import com.raczyk.gameoflife.world.cell.state.UnknownCellState;
+import com.raczyk.gameoflife.world.diff.GenerationDiff;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -107,6 +118,28 @@ class WorldTest {
         .containsExactlyInAnyOrderEntriesOf(expectedWorld);
   }
 
+  @Test
+  void initWorld_LargeWorld_EachCellWithNeighboursFromItsSurrounding() {
+    // Given
+    final var largeWorldSize = 300;
+    var largeWorldMap = new HashMap<Point, Cell>();
+    var largeWorld = new World(largeWorldSize, largeWorldSize, largeWorldMap);
+    final var lastPoint = largeWorldSize - 1;
+
+    // When
+    largeWorld.initWorld(new Random(SEED));
+
+    // Then
+    assertThat(largeWorldMap.get(new Point(0, 0)))
+        .extracting("neighbours", ARRAY).hasSize(3);
+    assertThat(largeWorldMap.get(new Point(0, lastPoint / 2)))
+        .extracting("neighbours", ARRAY).hasSize(5);
+    assertThat(largeWorldMap.get(new Point(lastPoint / 2, lastPoint / 2)))
+        .extracting("neighbours", ARRAY).hasSize(8);
+    assertThat(largeWorldMap.get(new Point(lastPoint, lastPoint)))
+        .extracting("neighbours", ARRAY).hasSize(3);
+  }
+
   @Test
   void setNextGeneration_WorldInitializedWithRandomWithGivenSeed_ExpectedWorld() {
     // Given
@@ -142,6 +175,45 @@ class WorldTest {
         .containsExactlyInAnyOrderEntriesOf(expectedWorld);
   }
 
+  @Test
+  void evolveToNextGeneration_AllCellsDead_EmptyFrontier() {
+    // Given
+    when(random.nextInt(anyInt())).thenReturn(DEAD_CELL_STATE);
+    world.initWorld(random);
+    world.setNextGeneration();
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    assertThat(world.getFrontierSize()).isZero();
+  }
+
+  @Test
+  void evolveToNextGeneration_RandomWorldWithFrontier_SameGenerationsAsBitBoardWorld() {
+    // Given
+    final var columnNo = 40;
+    final var rowNo = 30;
+    final var generations = 60;
+    var frontierWorld = new World(columnNo, rowNo, new HashMap<>());
+    var bitBoardWorld = new BitBoardWorld(columnNo, rowNo);
+    frontierWorld.initWorld(new Random(SEED));
+    bitBoardWorld.initWorld(new Random(SEED));
+
+    for (int generation = 0; generation < generations; generation++) {
+      // When
+      frontierWorld.setNextGeneration();
+      frontierWorld.evolveToNextGeneration();
+      bitBoardWorld.setNextGeneration();
+      bitBoardWorld.evolveToNextGeneration();
+
+      // Then
+      assertThat(frontierWorld.getWorldRepresentation())
+          .isEqualTo(bitBoardWorld.getWorldRepresentation());
+      assertThat(frontierWorld.getFrontierSize()).isLessThanOrEqualTo(columnNo * rowNo);
+    }
+  }
+
   @Test
   void getWorldRepresentation_WorldInitializedWithGivenSeed_ExpectedWorldRepresentation() {
     // Given
@@ -159,13 +231,257 @@ class WorldTest {
         .isEqualTo(expectedSeedWorldRepresentation);
   }
 
+  @Test
+  void appendRepresentation_WorldInitializedWithGivenSeed_ExpectedRepresentationWritten()
+      throws IOException {
+    // Given
+    world.initWorld(new Random(SEED));
+    var writer = new StringWriter();
+
+    // When
+    world.appendRepresentation(writer);
+
+    // Then
+    assertThat(writer.toString()).isEqualTo(world.getWorldRepresentation());
+  }
+
+  @Test
+  void writeRepresentation_WorldInitializedWithGivenSeed_ExpectedBytesWritten() throws IOException {
+    // Given
+    world.initWorld(new Random(SEED));
+    var outputStream = new ByteArrayOutputStream();
+
+    // When
+    world.writeRepresentation(outputStream);
+
+    // Then
+    assertThat(outputStream.toString(StandardCharsets.US_ASCII))
+        .isEqualTo("X X X \nX X # \nX # # \n");
+  }
+
+  @Test
+  void putRepresentation_WorldInitializedWithGivenSeed_ExpectedBytesPut() {
+    // Given
+    world.initWorld(new Random(SEED));
+    var expectedRepresentation = "X X X \nX X # \nX # # \n";
+    var buffer = ByteBuffer.allocate(expectedRepresentation.length());
+
+    // When
+    world.putRepresentation(buffer);
+
+    // Then
+    assertThat(buffer.hasRemaining()).isFalse();
+    assertThat(new String(buffer.array(), StandardCharsets.US_ASCII))
+        .isEqualTo(expectedRepresentation);
+  }
+
+  @Test
+  void advance_AlreadyCancelled_WorldNotChanged() {
+    // Given
+    world.initWorld(new Random(SEED));
+    var initialRepresentation = world.getWorldRepresentation();
+
+    // When
+    var advancedNo = world.advance(10L, AdvanceControl.cancelledBy(new AtomicBoolean(true)));
+
+    // Then
+    assertThat(advancedNo).isZero();
+    assertThat(world.getWorldRepresentation()).isEqualTo(initialRepresentation);
+  }
+
+  @Test
+  void advance_OneGeneration_SameWorldAsEvolvingToNextGeneration() {
+    // Given
+    world.initWorld(new Random(SEED));
+    var expectedWorldRepresentation = "X # X \n"
+        + "# # X \n"
+        + "X X # \n";
+
+    // When
+    world.advance(1L);
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(expectedWorldRepresentation);
+  }
+
+  @Test
+  void advance_RandomWorld_SameWorldAndCountersAsSteppingGenerationByGeneration() {
+    // Given
+    final var generations = 30;
+    var advancedWorld = new World(20, 30, new HashMap<>(), Rule.parse("B36/S23"));
+    var steppedWorld = new World(20, 30, new HashMap<>(), Rule.parse("B36/S23"));
+    advancedWorld.initWorld(new Random(SEED));
+    steppedWorld.initWorld(new Random(SEED));
+    var advancedDiffs = new ArrayList<GenerationDiff>();
+    var steppedDiffs = new ArrayList<GenerationDiff>();
+    advancedWorld.subscribe(advancedDiffs::add);
+    steppedWorld.subscribe(steppedDiffs::add);
+    for (int generation = 0; generation < generations; generation++) {
+      steppedWorld.setNextGeneration();
+      steppedWorld.evolveToNextGeneration();
+    }
+
+    // When
+    advancedWorld.advance(generations);
+
+    // Then
+    assertThat(advancedWorld.getWorldRepresentation())
+        .isEqualTo(steppedWorld.getWorldRepresentation());
+    assertThat(advancedWorld.getPopulation()).isEqualTo(steppedWorld.getPopulation());
+    assertThat(advancedWorld.getBirthsNo()).isEqualTo(steppedWorld.getBirthsNo());
+    assertThat(advancedWorld.getDeathsNo()).isEqualTo(steppedWorld.getDeathsNo());
+    assertThat(advancedWorld.getHash()).isEqualTo(steppedWorld.getHash());
+    assertThat(advancedWorld.getFrontierSize()).isEqualTo(steppedWorld.getFrontierSize());
+    assertThat(advancedDiffs).usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(steppedDiffs);
+  }
+
+  @Test
+  void evolveToNextGeneration_WorldInitializedWithRandomWithGivenSeed_BirthsAndDeathsCounted() {
+    // Given
+    var world = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    world.setNextGeneration();
+    var initialPopulation = world.getPopulation();
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    assertThat(initialPopulation).isEqualTo(6);
+    assertThat(world.getBirthsNo()).isEqualTo(2);
+    assertThat(world.getDeathsNo()).isEqualTo(3);
+    assertThat(world.getPopulation()).isEqualTo(5);
+  }
+
+  @Test
+  void setCell_DeadCellMadeAlive_PopulationIncreased() {
+    // Given
+    var world = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    world.initWorld();
+
+    // When
+    world.setCell(1, 1, 1);
+
+    // Then
+    assertThat(world.getPopulation()).isEqualTo(1);
+  }
+
+  @Test
+  void setCell_CellOutsideFrontierSetAfterNextGenerationSet_ChangeEvolvedConsistently() {
+    // Given
+    var world = createBlinkerWorld();
+    var expectedWorld = createBlinkerWorld();
+    world.setNextGeneration();
+    expectedWorld.setCell(0, 0, 1);
+    expectedWorld.setNextGeneration();
+
+    // When
+    world.setCell(0, 0, 1);
+    world.evolveToNextGeneration();
+    expectedWorld.evolveToNextGeneration();
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(expectedWorld.getWorldRepresentation());
+    assertThat(world.getPopulation()).isEqualTo(expectedWorld.getPopulation()).isEqualTo(3);
+    assertThat(world.getHash()).isEqualTo(expectedWorld.getHash());
+  }
+
+  @Test
+  void setCell_FrontierCellSetAfterNextGenerationSet_ChangeEvolvedConsistently() {
+    // Given
+    var world = createBlinkerWorld();
+    var expectedWorld = createBlinkerWorld();
+    world.setNextGeneration();
+    expectedWorld.setCell(3, 3, 0);
+    expectedWorld.setNextGeneration();
+
+    // When
+    world.setCell(3, 3, 0);
+    world.evolveToNextGeneration();
+    expectedWorld.evolveToNextGeneration();
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(expectedWorld.getWorldRepresentation());
+    assertThat(world.getPopulation()).isEqualTo(expectedWorld.getPopulation());
+    assertThat(world.getHash()).isEqualTo(expectedWorld.getHash());
+  }
+
+  @Test
+  void getHash_WorldsWithSameCellsReachedDifferently_SameHash() {
+    // Given
+    var world = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+    var builtWorld = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    builtWorld.initWorld();
+
+    // When
+    IntStream.range(0, COLUMN_NO).forEach(coordinateX -> IntStream.range(0, ROW_NO)
+        .forEach(coordinateY -> builtWorld.setCell(coordinateX, coordinateY,
+            world.getCell(coordinateX, coordinateY))));
+
+    // Then
+    assertThat(builtWorld.getHash()).isEqualTo(world.getHash()).isNotZero();
+  }
+
+  @Test
+  void subscribe_WorldInitializedWithRandomWithGivenSeed_DiffOfBornAndDiedCellsPublished() {
+    // Given
+    var world = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    var diffs = new ArrayList<GenerationDiff>();
+    world.subscribe(diffs::add);
+    world.setNextGeneration();
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    assertThat(diffs).singleElement().satisfies(diff -> {
+      assertThat(diff.getBorn()).containsExactlyInAnyOrder(
+          PointKey.of(1, 2), PointKey.of(2, 1));
+      assertThat(diff.getDied()).containsExactlyInAnyOrder(
+          PointKey.of(0, 1), PointKey.of(1, 0), PointKey.of(1, 1));
+      assertThat(diff.getPopulation()).isEqualTo(5);
+    });
+  }
+
+  @Test
+  void subscribe_SubscriptionCancelled_NoDiffPublished() {
+    // Given
+    var world = new World(COLUMN_NO, ROW_NO, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    var diffs = new ArrayList<GenerationDiff>();
+    var subscription = world.subscribe(diffs::add);
+
+    // When
+    subscription.cancel();
+    world.advance(3);
+
+    // Then
+    assertThat(diffs).isEmpty();
+  }
+
+  private World createBlinkerWorld() {
+    var blinkerWorld = new World(7, 7, new HashMap<>());
+    blinkerWorld.initWorld();
+    blinkerWorld.setCell(3, 2, 1);
+    blinkerWorld.setCell(3, 3, 1);
+    blinkerWorld.setCell(3, 4, 1);
+    blinkerWorld.setNextGeneration();
+    blinkerWorld.evolveToNextGeneration();
+    return blinkerWorld;
+  }
+
   private void initializeDeadWorld(Map<Point, Cell> expectedWorldMap) {
-    expectedWorldMap.values().forEach(cell -> cell.setCurrentState(new DeadCellState(cell)));
+    expectedWorldMap.values().forEach(cell -> cell.setCurrentState(new DeadCellState()));
     setNeighbours(expectedWorldMap);
   }
 
   private void initializeAliveWorld(Map<Point, Cell> expectedWorldMap) {
-    expectedWorldMap.values().forEach(cell -> cell.setCurrentState(new AliveCellState(cell)));
+    expectedWorldMap.values().forEach(cell -> cell.setCurrentState(new AliveCellState()));
     setNeighbours(expectedWorldMap);
   }
 
@@ -186,7 +502,7 @@ class WorldTest {
     for (int coordinateX = initColumn; coordinateX < COLUMN_NO; coordinateX++) {
       for (int coordinateY = initRow; coordinateY < maxRowsInColumn; coordinateY++) {
         var cell = expectedWorldMap.get(new Point(coordinateX, coordinateY));
-        cell.setCurrentState(new AliveCellState(cell));
+        cell.setCurrentState(new AliveCellState());
       }
       maxRowsInColumn--;
     }
@@ -201,7 +517,7 @@ class WorldTest {
       var coordinateY = initRow;
       for (int k = 0; k < coordinateX; k++) {
         var cell = expectedWorldMap.get(new Point(coordinateX, coordinateY));
-        cell.setCurrentState(new DeadCellState(cell));
+        cell.setCurrentState(new DeadCellState());
         coordinateY--;
       }
       coordinateX++;
@@ -234,23 +550,23 @@ class WorldTest {
 
   private void setDeadFutureState(Map<Point, Cell> expectedWorldMap, Point point) {
     var cell = expectedWorldMap.get(point);
-    cell.setFutureState(new DeadCellState(cell));
+    cell.setFutureState(new DeadCellState());
   }
 
   private void setAliveFutureState(Map<Point, Cell> expectedWorldMap, Point point) {
     var cell = expectedWorldMap.get(point);
-    cell.setFutureState(new AliveCellState(cell));
+    cell.setFutureState(new AliveCellState());
   }
 
   private void setSecondGenerationAliveState(Map<Point, Cell> expectedWorldMap, Point point) {
     var cell = expectedWorldMap.get(point);
-    cell.setCurrentState(new AliveCellState(cell));
-    cell.setFutureState(new UnknownCellState(cell));
+    cell.setCurrentState(new AliveCellState());
+    cell.setFutureState(new UnknownCellState());
   }
 
   private void setSecondGenerationDeadState(Map<Point, Cell> expectedWorldMap, Point point) {
     var cell = expectedWorldMap.get(point);
-    cell.setCurrentState(new DeadCellState(cell));
-    cell.setFutureState(new UnknownCellState(cell));
+    cell.setCurrentState(new DeadCellState());
+    cell.setFutureState(new UnknownCellState());
   }
 }
@@ -0,0 +1,247 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import com.raczyk.gameoflife.world.AdvanceControl;
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BitBoardWorldTest {
+  private static final int ALIVE_CELL_STATE = 1;
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @Mock
+  private Random random;
+
+  @Test
+  void setNextGeneration_AllCellsAlive_CurrentGenerationUnchanged() {
+    // Given
+    when(random.nextInt(anyInt())).thenReturn(ALIVE_CELL_STATE);
+    var world = new BitBoardWorld(COLUMN_NO, ROW_NO);
+    world.initWorld(random);
+
+    // When
+    world.setNextGeneration();
+
+    // Then
+    assertThat(world.getCurrentGeneration().getPopulation()).isEqualTo(COLUMN_NO * ROW_NO);
+  }
+
+  @Test
+  void evolveToNextGeneration_AllCellsAlive_OnlyCornerCellsSurvive() {
+    // Given
+    when(random.nextInt(anyInt())).thenReturn(ALIVE_CELL_STATE);
+    var world = new BitBoardWorld(COLUMN_NO, ROW_NO);
+    world.initWorld(random);
+    world.setNextGeneration();
+    var expectedWorldRepresentation = "X # X \n"
+        + "# # # \n"
+        + "X # X \n";
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(expectedWorldRepresentation);
+  }
+
+  @Test
+  void evolveToNextGeneration_BlinkerAcrossWordBoundary_BlinkerRotated() {
+    // Given
+    var world = new BitBoardWorld(5, 130);
+    var generation = world.getCurrentGeneration();
+    generation.setCell(2, 63, ALIVE_CELL_STATE);
+    generation.setCell(2, 64, ALIVE_CELL_STATE);
+    generation.setCell(2, 65, ALIVE_CELL_STATE);
+
+    // When
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+
+    // Then
+    var nextGeneration = world.getCurrentGeneration();
+    assertThat(nextGeneration.getPopulation()).isEqualTo(3);
+    assertThat(nextGeneration.isAlive(1, 64)).isTrue();
+    assertThat(nextGeneration.isAlive(2, 64)).isTrue();
+    assertThat(nextGeneration.isAlive(3, 64)).isTrue();
+  }
+
+  @Test
+  void evolveToNextGeneration_RandomWorldWiderThanWord_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 12;
+    final var rowNo = 70;
+    final var generations = 10;
+    var world = new World(columnNo, rowNo, new HashMap<>());
+    var bitBoardWorld = new BitBoardWorld(columnNo, rowNo);
+    world.initWorld(new Random(SEED));
+    bitBoardWorld.initWorld(new Random(SEED));
+
+    for (int generation = 0; generation < generations; generation++) {
+      // When
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+      bitBoardWorld.setNextGeneration();
+      bitBoardWorld.evolveToNextGeneration();
+
+      // Then
+      assertThat(bitBoardWorld.getWorldRepresentation())
+          .isEqualTo(world.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void evolveToNextGeneration_RandomWorldWithHighLifeRule_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 10;
+    final var rowNo = 66;
+    final var generations = 10;
+    var highLife = Rule.parse("B36/S23");
+    var world = new World(columnNo, rowNo, new HashMap<>(), highLife);
+    var bitBoardWorld = new BitBoardWorld(columnNo, rowNo, highLife);
+    world.initWorld(new Random(SEED));
+    bitBoardWorld.initWorld(new Random(SEED));
+
+    for (int generation = 0; generation < generations; generation++) {
+      // When
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+      bitBoardWorld.setNextGeneration();
+      bitBoardWorld.evolveToNextGeneration();
+
+      // Then
+      assertThat(bitBoardWorld.getWorldRepresentation())
+          .isEqualTo(world.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void advance_RandomWorld_SameWorldAsSteppingGenerationByGeneration() {
+    // Given
+    final var generations = 25;
+    var world = new BitBoardWorld(30, 70);
+    var steppedWorld = new BitBoardWorld(30, 70);
+    world.initWorld(new Random(SEED));
+    steppedWorld.initWorld(new Random(SEED));
+    for (int generation = 0; generation < generations; generation++) {
+      steppedWorld.setNextGeneration();
+      steppedWorld.evolveToNextGeneration();
+    }
+
+    // When
+    world.advance(generations);
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(steppedWorld.getWorldRepresentation());
+    assertThat(world.getGeneration()).isEqualTo(generations);
+  }
+
+  @Test
+  void advance_CancelledFromProgressCallback_StopsAfterCancellingGeneration() {
+    // Given
+    final var cancellingGeneration = 7L;
+    var world = new BitBoardWorld(COLUMN_NO, ROW_NO);
+    world.initWorld(new Random(SEED));
+    var cancelled = new AtomicBoolean();
+    var control = new AdvanceControl() {
+      @Override
+      public boolean isCancelled() {
+        return cancelled.get();
+      }
+
+      @Override
+      public void onProgress(long advancedNo, long generationsNo) {
+        cancelled.set(advancedNo == cancellingGeneration);
+      }
+    };
+
+    // When
+    var advancedNo = world.advance(1_000_000L, control);
+
+    // Then
+    assertThat(advancedNo).isEqualTo(cancellingGeneration);
+    assertThat(world.getGeneration()).isEqualTo(cancellingGeneration);
+  }
+
+  @Test
+  void advance_ProgressReported_GenerationAlreadyAdvanced() {
+    // Given
+    final var generations = 5L;
+    var world = new BitBoardWorld(COLUMN_NO, ROW_NO);
+    world.initWorld(new Random(SEED));
+    var reportedGenerations = new ArrayList<Long>();
+    var control = new AdvanceControl() {
+      @Override
+      public void onProgress(long advancedNo, long generationsNo) {
+        reportedGenerations.add(world.getGeneration());
+      }
+    };
+
+    // When
+    world.advance(generations, control);
+
+    // Then
+    assertThat(reportedGenerations).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  void advance_RandomWorldOnTorusAndKleinBottle_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 9;
+    final var rowNo = 70;
+    final var generations = 30;
+    for (Topology topology : Topology.values()) {
+      var world = new World(columnNo, rowNo, new HashMap<>(), Rule.CONWAY, topology);
+      var bitBoardWorld = new BitBoardWorld(columnNo, rowNo, Rule.CONWAY,
+          new SequentialStepper(), topology);
+      world.initWorld(new Random(SEED));
+      bitBoardWorld.initWorld(new Random(SEED));
+
+      // When
+      world.advance(generations);
+      bitBoardWorld.advance(generations);
+
+      // Then
+      assertThat(bitBoardWorld.getWorldRepresentation())
+          .as(topology.name())
+          .isEqualTo(world.getWorldRepresentation());
+      assertThat(bitBoardWorld.getCurrentGeneration().getPopulation())
+          .isEqualTo(bitBoardWorld.getWorldRepresentation().chars().filter(c -> c == 'X').count());
+    }
+  }
+
+  @Test
+  void advance_GliderOnTorusWithRowsMultipleOfWord_GliderBackAtStart() {
+    // Given
+    final var size = 64;
+    var world = new BitBoardWorld(size, size, Rule.CONWAY, new SequentialStepper(),
+        Topology.TORUS);
+    var cells = world.getCurrentGeneration();
+    cells.setCell(0, 1, ALIVE_CELL_STATE);
+    cells.setCell(1, 2, ALIVE_CELL_STATE);
+    cells.setCell(2, 0, ALIVE_CELL_STATE);
+    cells.setCell(2, 1, ALIVE_CELL_STATE);
+    cells.setCell(2, 2, ALIVE_CELL_STATE);
+    var initialRepresentation = world.getWorldRepresentation();
+
+    // When
+    world.advance(4 * size);
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(initialRepresentation);
+  }
+}
@@ -0,0 +1,92 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ForkJoinStepperTest {
+  private static final int SEED = 4;
+
+  @Test
+  void step_RandomWorld_SameGenerationsAsSequentialStepper() {
+    // Given
+    final var columnNo = 150;
+    final var rowNo = 200;
+    final var generations = 20;
+    var sequentialWorld = new BitBoardWorld(columnNo, rowNo, Rule.CONWAY,
+        new SequentialStepper());
+    try (var stepper = new ForkJoinStepper(4)) {
+      var parallelWorld = new BitBoardWorld(columnNo, rowNo, Rule.CONWAY, stepper);
+      sequentialWorld.initWorld(new Random(SEED));
+      parallelWorld.initWorld(new Random(SEED));
+
+      // When
+      for (int generation = 0; generation < generations; generation++) {
+        sequentialWorld.setNextGeneration();
+        sequentialWorld.evolveToNextGeneration();
+        parallelWorld.setNextGeneration();
+        parallelWorld.evolveToNextGeneration();
+      }
+
+      // Then
+      assertThat(parallelWorld.getWorldRepresentation())
+          .isEqualTo(sequentialWorld.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void step_MoreThreadsThanColumns_AllColumnsComputed() {
+    // Given
+    var source = new BitGrid(3, 3);
+    source.setCell(1, 0, 1);
+    source.setCell(1, 1, 1);
+    source.setCell(1, 2, 1);
+    var pool = new ForkJoinPool(8);
+    var stepper = new ForkJoinStepper(pool, 1);
+    var target = new BitGrid(3, 3);
+
+    // When
+    try {
+      stepper.step(Rule.CONWAY, source, target);
+    } finally {
+      pool.shutdown();
+    }
+
+    // Then
+    assertThat(target.getPopulation()).isEqualTo(3);
+    assertThat(target.isAlive(0, 1)).isTrue();
+    assertThat(target.isAlive(1, 1)).isTrue();
+    assertThat(target.isAlive(2, 1)).isTrue();
+  }
+
+  @Test
+  void close_StepperWithOwnPool_PoolShutDown() {
+    // Given
+    var stepper = new ForkJoinStepper(2);
+
+    // When
+    stepper.close();
+
+    // Then
+    assertThat(stepper).extracting("pool", type(ForkJoinPool.class))
+        .returns(true, ForkJoinPool::isShutdown);
+  }
+
+  @Test
+  void close_StepperWithCallerPool_PoolStillRunning() {
+    // Given
+    var pool = new ForkJoinPool(2);
+    var stepper = new ForkJoinStepper(pool, 1);
+
+    // When
+    stepper.close();
+
+    // Then
+    assertThat(pool.isShutdown()).isFalse();
+    pool.shutdown();
+  }
+}
@@ -0,0 +1,154 @@
+package com.raczyk.gameoflife.world.bitboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorldSnapshotTest {
+  private static final int SEED = 4;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void load_SavedRandomWorld_SameCellsRuleAndGeneration() throws IOException {
+    // Given
+    final var generations = 7;
+    var world = new BitBoardWorld(13, 130, Rule.parse("B36/S23"));
+    world.initWorld(new Random(SEED));
+    for (int generation = 0; generation < generations; generation++) {
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+    }
+    var path = directory.resolve("world.snapshot");
+    WorldSnapshot.save(world, path);
+
+    // When
+    var restoredWorld = WorldSnapshot.load(path);
+
+    // Then
+    assertThat(restoredWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+    assertThat(restoredWorld.getRule()).isEqualTo(world.getRule());
+    assertThat(restoredWorld.getGeneration()).isEqualTo(generations);
+    assertThat(Files.size(path)).isEqualTo(WorldSnapshot.HEADER_SIZE + 13 * 3 * Long.BYTES);
+  }
+
+  @Test
+  void load_RestoredWorldEvolved_SameGenerationsAsOriginalWorld() throws IOException {
+    // Given
+    var world = new BitBoardWorld(20, 70);
+    world.initWorld(new Random(SEED));
+    var path = directory.resolve("world.snapshot");
+    WorldSnapshot.save(world, path);
+    var restoredWorld = WorldSnapshot.load(path);
+
+    // When
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+    restoredWorld.setNextGeneration();
+    restoredWorld.evolveToNextGeneration();
+
+    // Then
+    assertThat(restoredWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+    assertThat(restoredWorld.getGeneration()).isEqualTo(1);
+  }
+
+  @Test
+  void load_SavedTorusWorld_RestoredWorldEvolvesAcrossEdges() throws IOException {
+    // Given
+    var world = new BitBoardWorld(5, 5, Rule.CONWAY, new SequentialStepper(), Topology.TORUS);
+    world.getCurrentGeneration().setCell(0, 0, 1);
+    world.getCurrentGeneration().setCell(0, 1, 1);
+    world.getCurrentGeneration().setCell(0, 4, 1);
+    var path = directory.resolve("torus.snapshot");
+    WorldSnapshot.save(world, path);
+    var restoredWorld = WorldSnapshot.load(path);
+
+    // When
+    world.setNextGeneration();
+    world.evolveToNextGeneration();
+    restoredWorld.setNextGeneration();
+    restoredWorld.evolveToNextGeneration();
+
+    // Then
+    assertThat(restoredWorld.getTopology()).isEqualTo(Topology.TORUS);
+    assertThat(restoredWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+  }
+
+  @Test
+  void load_HeaderWithUnknownTopology_ExceptionThrown() throws IOException {
+    // Given
+    var path = directory.resolve("corrupt.snapshot");
+    var header = ByteBuffer.allocate(WorldSnapshot.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(WorldSnapshot.MAGIC)
+        .putInt(WorldSnapshot.VERSION)
+        .putInt(0)
+        .putInt(0)
+        .putLong(0L)
+        .putInt(Rule.CONWAY.getBirthMask())
+        .putInt(Rule.CONWAY.getSurvivalMask())
+        .putInt(Topology.values().length);
+    Files.write(path, header.array());
+
+    // When Then
+    assertThatThrownBy(() -> WorldSnapshot.load(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("unknown topology");
+  }
+
+  @Test
+  void load_FileWhichIsNotSnapshot_ExceptionThrown() throws IOException {
+    // Given
+    var path = directory.resolve("world.txt");
+    Files.writeString(path, "X X X \nX X # \nX # # \n and some more text");
+
+    // When Then
+    assertThatThrownBy(() -> WorldSnapshot.load(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("not a world snapshot");
+  }
+
+  @Test
+  void load_HeaderWithHugeDimensions_ExceptionThrownWithoutAllocatingWorld() throws IOException {
+    // Given
+    var path = directory.resolve("hostile.snapshot");
+    var header = ByteBuffer.allocate(WorldSnapshot.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(WorldSnapshot.MAGIC)
+        .putInt(WorldSnapshot.VERSION)
+        .putInt(Integer.MAX_VALUE)
+        .putInt(Integer.MAX_VALUE);
+    Files.write(path, header.array());
+
+    // When Then
+    assertThatThrownBy(() -> WorldSnapshot.load(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("too large");
+  }
+
+  @Test
+  void load_HeaderWithNegativeDimensions_ExceptionThrown() throws IOException {
+    // Given
+    var path = directory.resolve("corrupt.snapshot");
+    var header = ByteBuffer.allocate(WorldSnapshot.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(WorldSnapshot.MAGIC)
+        .putInt(WorldSnapshot.VERSION)
+        .putInt(-3)
+        .putInt(3);
+    Files.write(path, header.array());
+
+    // When Then
+    assertThatThrownBy(() -> WorldSnapshot.load(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("negative");
+  }
+}
@@ -1,7 +1,7 @@
 package com.raczyk.gameoflife.world.cell;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
+import static org.assertj.core.api.InstanceOfAssertFactories.ARRAY;
 
 import com.raczyk.gameoflife.world.Point;
 import com.raczyk.gameoflife.world.cell.state.AliveCellState;
@@ -28,7 +28,7 @@ class CellTest {
           IntStream.range(0, WORLD_ROW_NO).forEach(coordinateY -> {
                 var point = new Point(coordinateX, coordinateY);
                 var worldCell = new Cell(point);
-                worldCell.setCurrentState(new DeadCellState(worldCell));
+                worldCell.setCurrentState(new DeadCellState());
                 world.put(point, worldCell);
               }
           );
@@ -53,7 +53,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(3).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -76,7 +76,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(5).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -99,7 +99,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(5).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -125,7 +125,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(8).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -146,7 +146,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(3).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -169,7 +169,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(5).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -190,7 +190,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(3).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -213,7 +213,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(5).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -234,7 +234,7 @@ class CellTest {
 
     // Then
     assertThat(cell)
-        .extracting("neighbours", LIST)
+        .extracting("neighbours", ARRAY)
         .hasSize(3).containsExactlyInAnyOrderElementsOf(expectedNeighbours);
   }
 
@@ -247,7 +247,7 @@ class CellTest {
     IntStream.range(0, WORLD_COLUMN_NO).forEach(x -> {
           IntStream.range(0, WORLD_ROW_NO).forEach(y -> {
                 var worldCell = world.get(new Point(x, y));
-                worldCell.setCurrentState(new AliveCellState(worldCell));
+                worldCell.setCurrentState(new AliveCellState());
               }
           );
         }
@@ -285,11 +285,11 @@ class CellTest {
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
     var secondNeighbour = world.get(new Point(coordinateX - 1, coordinateY));
-    secondNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    secondNeighbour.setCurrentState(new AliveCellState());
     var thirdNeighbour = world.get(new Point(coordinateX, coordinateY - 1));
-    thirdNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    thirdNeighbour.setCurrentState(new AliveCellState());
 
     // When
     var livingNeighbours = cell.getLivingNeighboursNo();
@@ -304,7 +304,7 @@ class CellTest {
     var coordinateX = WORLD_COLUMN_NO / 2;
     var coordinateY = WORLD_ROW_NO / 2;
     var cell = world.get(new Point(coordinateX, coordinateY));
-    cell.setCurrentState(new UnknownCellState(cell));
+    cell.setCurrentState(new UnknownCellState());
     cell.setNeighbours(world);
 
     // When
@@ -312,7 +312,7 @@ class CellTest {
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new UnknownCellState(cell));
+        .isEqualTo(new UnknownCellState());
   }
 
   @Test
@@ -324,18 +324,18 @@ class CellTest {
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
     var secondNeighbour = world.get(new Point(coordinateX - 1, coordinateY));
-    secondNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    secondNeighbour.setCurrentState(new AliveCellState());
     var thirdNeighbour = world.get(new Point(coordinateX, coordinateY - 1));
-    thirdNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    thirdNeighbour.setCurrentState(new AliveCellState());
 
     // When
     cell.setNextGeneration();
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new AliveCellState(cell));
+        .isEqualTo(new AliveCellState());
   }
 
   @Test
@@ -347,14 +347,14 @@ class CellTest {
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
 
     // When
     cell.setNextGeneration();
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new DeadCellState(cell));
+        .isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -363,26 +363,26 @@ class CellTest {
     var coordinateX = WORLD_COLUMN_NO / 2;
     var coordinateY = WORLD_ROW_NO / 2;
     var cell = world.get(new Point(coordinateX, coordinateY));
-    cell.setCurrentState(new AliveCellState(cell));
+    cell.setCurrentState(new AliveCellState());
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
     var secondNeighbour = world.get(new Point(coordinateX - 1, coordinateY));
-    secondNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    secondNeighbour.setCurrentState(new AliveCellState());
     var thirdNeighbour = world.get(new Point(coordinateX, coordinateY - 1));
-    thirdNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    thirdNeighbour.setCurrentState(new AliveCellState());
     var fourthNeighbour =  world.get(new Point(coordinateX + 1, coordinateY));
-    fourthNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    fourthNeighbour.setCurrentState(new AliveCellState());
     var fifthNeighbour = world.get(new Point(coordinateX + 1, coordinateY + 1));
-    fifthNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    fifthNeighbour.setCurrentState(new AliveCellState());
 
     // When
     cell.setNextGeneration();
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new DeadCellState(cell));
+        .isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -391,18 +391,18 @@ class CellTest {
     var coordinateX = WORLD_COLUMN_NO / 2;
     var coordinateY = WORLD_ROW_NO / 2;
     var cell = world.get(new Point(coordinateX, coordinateY));
-    cell.setCurrentState(new AliveCellState(cell));
+    cell.setCurrentState(new AliveCellState());
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
 
     // When
     cell.setNextGeneration();
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new DeadCellState(cell));
+        .isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -411,20 +411,20 @@ class CellTest {
     var coordinateX = WORLD_COLUMN_NO / 2;
     var coordinateY = WORLD_ROW_NO / 2;
     var cell = world.get(new Point(coordinateX, coordinateY));
-    cell.setCurrentState(new AliveCellState(cell));
+    cell.setCurrentState(new AliveCellState());
     cell.setNeighbours(world);
 
     var firstNeighbour = world.get(new Point(coordinateX - 1, coordinateY - 1));
-    firstNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    firstNeighbour.setCurrentState(new AliveCellState());
     var secondNeighbour = world.get(new Point(coordinateX - 1, coordinateY));
-    secondNeighbour.setCurrentState(new AliveCellState(firstNeighbour));
+    secondNeighbour.setCurrentState(new AliveCellState());
 
     // When
     cell.setNextGeneration();
 
     // Then
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new AliveCellState(cell));
+        .isEqualTo(new AliveCellState());
   }
 
   @Test
@@ -433,7 +433,7 @@ class CellTest {
     var coordinateX = WORLD_COLUMN_NO / 2;
     var coordinateY = WORLD_ROW_NO / 2;
     var cell = world.get(new Point(coordinateX, coordinateY));
-    cell.setCurrentState(new AliveCellState(cell));
+    cell.setCurrentState(new AliveCellState());
     cell.setNextGeneration(); // set future cell state to DeadCellState
     cell.setNeighbours(world);
 
@@ -442,16 +442,62 @@ class CellTest {
 
     // Then
     assertThat(cell).extracting("currentState").isNotNull()
-        .isEqualTo(new DeadCellState(cell));
+        .isEqualTo(new DeadCellState());
     assertThat(cell).extracting("futureState").isNotNull()
-        .isEqualTo(new UnknownCellState(cell));
+        .isEqualTo(new UnknownCellState());
+  }
+
+  @Test
+  void evolve_DeadCellInNormalSubEnvironment_SameDeadStateInstanceAsCurrentState() {
+    // Given
+    var cell = world.get(new Point(WORLD_COLUMN_NO / 2, WORLD_ROW_NO / 2));
+    var deadCellState = new DeadCellState();
+    cell.setCurrentState(deadCellState);
+    cell.setNeighbours(world);
+    cell.setNextGeneration();
+
+    // When
+    cell.evolve();
+
+    // Then
+    assertThat(cell).extracting("currentState").isSameAs(deadCellState);
+  }
+
+  @Test
+  void isChanging_AliveCellInOverpopulationSubEnvironment_True() {
+    // Given
+    var cell = world.get(new Point(WORLD_COLUMN_NO / 2, WORLD_ROW_NO / 2));
+    world.values().forEach(worldCell -> worldCell.setCurrentState(new AliveCellState()));
+    cell.setNeighbours(world);
+    cell.setNextGeneration();
+
+    // When
+    var changing = cell.isChanging();
+
+    // Then
+    assertThat(changing).isTrue();
+  }
+
+  @Test
+  void isChanging_DeadCellInNormalSubEnvironment_False() {
+    // Given
+    var cell = world.get(new Point(WORLD_COLUMN_NO / 2, WORLD_ROW_NO / 2));
+    cell.setCurrentState(new DeadCellState());
+    cell.setNeighbours(world);
+    cell.setNextGeneration();
+
+    // When
+    var changing = cell.isChanging();
+
+    // Then
+    assertThat(changing).isFalse();
   }
 
   @Test
   void display_CellWithAliveState_ProperStateRepresentation() {
     // Given
     var cell = new Cell(new Point(0, 0));
-    cell.setCurrentState(new AliveCellState(cell));
+    cell.setCurrentState(new AliveCellState());
 
     // When
     var stateDisplayed = cell.display();
@@ -464,7 +510,7 @@ class CellTest {
   void display_CellWithDeadState_ProperStateRepresentation() {
     // Given
     var cell = new Cell(new Point(0, 0));
-    cell.setCurrentState(new DeadCellState(cell));
+    cell.setCurrentState(new DeadCellState());
 
     // When
     var stateDisplayed = cell.display();
@@ -477,7 +523,7 @@ class CellTest {
   void display_CellWithUnknownState_ProperStateRepresentation() {
     // Given
     var cell = new Cell(new Point(0, 0));
-    cell.setCurrentState(new UnknownCellState(cell));
+    cell.setCurrentState(new UnknownCellState());
 
     // When
     var stateDisplayed = cell.display();
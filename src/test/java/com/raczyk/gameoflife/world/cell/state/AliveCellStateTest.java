@@ -20,7 +20,7 @@ class AliveCellStateTest {
 
   @BeforeEach
   void setUp() {
-    this.aliveCellState = new AliveCellState(cell);
+    this.aliveCellState = new AliveCellState();
   }
 
   @Test
@@ -29,10 +29,10 @@ class AliveCellStateTest {
     when(cell.getLivingNeighboursNo()).thenReturn(7L);
 
     // When
-    var futureCellState = aliveCellState.determineFutureState();
+    var futureCellState = aliveCellState.determineFutureState(cell);
 
     // Then
-    assertThat(futureCellState).isEqualTo(new DeadCellState(cell));
+    assertThat(futureCellState).isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -41,10 +41,10 @@ class AliveCellStateTest {
     when(cell.getLivingNeighboursNo()).thenReturn(0L);
 
     // When
-    var futureCellState = aliveCellState.determineFutureState();
+    var futureCellState = aliveCellState.determineFutureState(cell);
 
     // Then
-    assertThat(futureCellState).isEqualTo(new DeadCellState(cell));
+    assertThat(futureCellState).isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -53,10 +53,35 @@ class AliveCellStateTest {
     when(cell.getLivingNeighboursNo()).thenReturn(3L);
 
     // When
-    var futureCellState = aliveCellState.determineFutureState();
+    var futureCellState = aliveCellState.determineFutureState(cell);
 
     // Then
-    assertThat(futureCellState).isEqualTo(new AliveCellState(cell));
+    assertThat(futureCellState).isEqualTo(new AliveCellState());
+  }
+
+  @Test
+  void changeState_NormalStateInCellSubEnvironment_SameAliveCellStateInstance() {
+    // Given
+    when(cell.getLivingNeighboursNo()).thenReturn(2L);
+
+    // When
+    var futureCellState = aliveCellState.determineFutureState(cell);
+
+    // Then
+    assertThat(futureCellState).isSameAs(aliveCellState);
+  }
+
+  @Test
+  void changeState_ReproductionAfterUnderpopulation_SameAliveCellStateInstance() {
+    // Given
+    when(cell.getLivingNeighboursNo()).thenReturn(1L, 3L);
+    var deadCellState = aliveCellState.determineFutureState(cell);
+
+    // When
+    var futureCellState = deadCellState.determineFutureState(cell);
+
+    // Then
+    assertThat(futureCellState).isSameAs(aliveCellState);
   }
 
   @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.raczyk.gameoflife.world.cell.Cell;
+import com.raczyk.gameoflife.world.rule.Rule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,7 +21,7 @@ class DeadCellStateTest {
 
   @BeforeEach
   void setUp() {
-    this.deadCellState = new DeadCellState(cell);
+    this.deadCellState = new DeadCellState();
   }
 
   @Test
@@ -29,10 +30,23 @@ class DeadCellStateTest {
     when(cell.getLivingNeighboursNo()).thenReturn(3L);
 
     // When
-    var futureCellState = deadCellState.determineFutureState();
+    var futureCellState = deadCellState.determineFutureState(cell);
 
     // Then
-    assertThat(futureCellState).isEqualTo(new AliveCellState(cell));
+    assertThat(futureCellState).isEqualTo(new AliveCellState());
+  }
+
+  @Test
+  void changeState_ReproductionInHighLifeRule_AliveCellStateAsFutureState() {
+    // Given
+    var highLifeDeadCellState = new DeadCellState(Rule.parse("B36/S23"));
+    when(cell.getLivingNeighboursNo()).thenReturn(6L);
+
+    // When
+    var futureCellState = highLifeDeadCellState.determineFutureState(cell);
+
+    // Then
+    assertThat(futureCellState).isEqualTo(new AliveCellState());
   }
 
   @Test
@@ -41,10 +55,10 @@ class DeadCellStateTest {
     when(cell.getLivingNeighboursNo()).thenReturn(6L);
 
     // When
-    var futureCellState = deadCellState.determineFutureState();
+    var futureCellState = deadCellState.determineFutureState(cell);
 
     // Then
-    assertThat(futureCellState).isEqualTo(new DeadCellState(cell));
+    assertThat(futureCellState).isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -4,8 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
-import com.raczyk.gameoflife.world.Point;
-import com.raczyk.gameoflife.world.cell.Cell;
+import com.raczyk.gameoflife.world.rule.Rule;
 import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,16 +18,11 @@ class KnownStateFactoryTest {
   @Mock
   private Random random;
 
-  private final Cell cell;
   private KnownStateFactory knownStateFactory;
 
-  KnownStateFactoryTest() {
-    cell = new Cell(new Point(0, 0));
-  }
-
   @BeforeEach
   void setUp() {
-    knownStateFactory = new KnownStateFactory(cell, random);
+    knownStateFactory = new KnownStateFactory();
   }
 
   @Test
@@ -37,10 +31,10 @@ class KnownStateFactoryTest {
     when(random.nextInt(anyInt())).thenReturn(0);
 
     // When
-    var state = knownStateFactory.getRandomKnownState();
+    var state = knownStateFactory.getRandomKnownState(random);
 
     // Then
-    assertThat(state).isEqualTo(new DeadCellState(cell));
+    assertThat(state).isEqualTo(new DeadCellState());
   }
 
   @Test
@@ -49,9 +43,23 @@ class KnownStateFactoryTest {
     when(random.nextInt(anyInt())).thenReturn(1);
 
     // When
-    var state = knownStateFactory.getRandomKnownState();
+    var state = knownStateFactory.getRandomKnownState(random);
+
+    // Then
+    assertThat(state).isEqualTo(new AliveCellState());
+  }
+
+  @Test
+  void getRandomKnownState_RandomReturningOneTwice_SameAliveCellStateInstance() {
+    // Given
+    when(random.nextInt(anyInt())).thenReturn(1);
+
+    // When
+    var firstState = knownStateFactory.getRandomKnownState(random);
+    var secondState = knownStateFactory.getRandomKnownState(random);
 
     // Then
-    assertThat(state).isEqualTo(new AliveCellState(cell));
+    assertThat(secondState).isSameAs(firstState)
+        .isSameAs(knownStateFactory.getKnownState(Rule.ALIVE_STATE));
   }
 }
@@ -2,15 +2,10 @@ package com.raczyk.gameoflife.world.cell.state;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.when;
 
 import com.raczyk.gameoflife.world.cell.Cell;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Supplier;
-import org.junit.jupiter.api.BeforeEach;
+import com.raczyk.gameoflife.world.rule.Rule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -19,6 +14,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class KnownStateTest {
+  private final CellState deadState = new DeadCellState();
+  private final CellState aliveState = new AliveCellState();
 
   @Mock
   private KnownState knownState;
@@ -26,65 +23,57 @@ class KnownStateTest {
   @Mock
   private Cell cell;
 
-  @BeforeEach
-  void setUp() {
-    Mockito.doCallRealMethod().when(this.knownState).getFutureState(any(Cell.class), anyMap());
-  }
-
   @Test
-  void getFutureState_EmptyEnvironmentStateRuleMap_UnknownCellState() {
-    // Given
-    when(cell.getLivingNeighboursNo()).thenReturn(0L);
-    Map<List<Long>, Supplier<CellState>> environmentStateRuleMap = Collections.emptyMap();
-
+  void createFutureStateTable_ConwayRuleAndAliveState_AliveStateOnlyForTwoAndThreeNeighbours() {
     // When
-    var futureState = knownState.getFutureState(cell, environmentStateRuleMap);
+    var futureStateTable = KnownState.createFutureStateTable(Rule.CONWAY, Rule.ALIVE_STATE,
+        deadState, aliveState);
 
     // Then
-    assertThat(futureState).isNotNull().isEqualTo(new UnknownCellState(cell));
+    assertThat(futureStateTable).containsExactly(deadState, deadState, aliveState, aliveState,
+        deadState, deadState, deadState, deadState, deadState);
   }
 
   @Test
-  void getFutureState_LivingNumberOfNeighboursNotInEnvironmentStateRuleMap_UnknownCellState() {
-    // Given
-    when(cell.getLivingNeighboursNo()).thenReturn(0L);
-    Map<List<Long>, Supplier<CellState>> environmentStateRuleMap =
-        Map.of(List.of(1L, 2L), () -> new AliveCellState(cell));
-
+  void createFutureStateTable_HighLifeRuleAndDeadState_AliveStateOnlyForThreeAndSixNeighbours() {
     // When
-    var futureState = knownState.getFutureState(cell, environmentStateRuleMap);
+    var futureStateTable = KnownState.createFutureStateTable(Rule.parse("B36/S23"),
+        Rule.DEAD_STATE, deadState, aliveState);
 
     // Then
-    assertThat(futureState).isNotNull().isEqualTo(new UnknownCellState(cell));
+    assertThat(futureStateTable).containsExactly(deadState, deadState, deadState, aliveState,
+        deadState, deadState, aliveState, deadState, deadState);
   }
 
   @Test
   void getFutureState_NumberOfLivingNeighboursMatchesAliveCellState_AliveCellState() {
     // Given
+    Mockito.doCallRealMethod().when(knownState)
+        .getFutureState(any(Cell.class), any(CellState[].class));
     when(cell.getLivingNeighboursNo()).thenReturn(2L);
-    Map<List<Long>, Supplier<CellState>> environmentStateRuleMap =
-        Map.of(List.of(1L, 2L), () -> new AliveCellState(cell),
-            List.of(0L, 3L, 4L, 5L, 6L, 7L, 8L), () -> new DeadCellState(cell));
+    var futureStateTable = KnownState.createFutureStateTable(Rule.CONWAY, Rule.ALIVE_STATE,
+        deadState, aliveState);
 
     // When
-    var futureState = knownState.getFutureState(cell, environmentStateRuleMap);
+    var futureState = knownState.getFutureState(cell, futureStateTable);
 
     // Then
-    assertThat(futureState).isNotNull().isEqualTo(new AliveCellState(cell));
+    assertThat(futureState).isSameAs(aliveState);
   }
 
   @Test
   void getFutureState_NumberOfLivingNeighboursMatchesDeadCellState_DeadCellState() {
     // Given
+    Mockito.doCallRealMethod().when(knownState)
+        .getFutureState(any(Cell.class), any(CellState[].class));
     when(cell.getLivingNeighboursNo()).thenReturn(7L);
-    Map<List<Long>, Supplier<CellState>> environmentStateRuleMap =
-        Map.of(List.of(1L, 2L), () -> new AliveCellState(cell),
-            List.of(0L, 3L, 4L, 5L, 6L, 7L, 8L), () -> new DeadCellState(cell));
+    var futureStateTable = KnownState.createFutureStateTable(Rule.CONWAY, Rule.ALIVE_STATE,
+        deadState, aliveState);
 
     // When
-    var futureState = knownState.getFutureState(cell, environmentStateRuleMap);
+    var futureState = knownState.getFutureState(cell, futureStateTable);
 
     // Then
-    assertThat(futureState).isNotNull().isEqualTo(new DeadCellState(cell));
+    assertThat(futureState).isSameAs(deadState);
   }
 }
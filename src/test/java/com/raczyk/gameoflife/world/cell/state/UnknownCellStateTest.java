@@ -15,13 +15,13 @@ class UnknownCellStateTest {
   @BeforeEach
   void setUp() {
     this.cell = new Cell(new Point(0, 0));
-    this.unknownCellState = new UnknownCellState(cell);
+    this.unknownCellState = new UnknownCellState();
   }
 
   @Test
   void changeState_UnknownCellState_CellFutureStateSetToTheSameUnknownState() {
     // When
-    var futureCellState = unknownCellState.determineFutureState();
+    var futureCellState = unknownCellState.determineFutureState(cell);
 
     // Then
     assertThat(futureCellState).isEqualTo(unknownCellState);
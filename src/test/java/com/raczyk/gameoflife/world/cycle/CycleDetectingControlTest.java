@@ -0,0 +1,74 @@
+package com.raczyk.gameoflife.world.cycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.World;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+class CycleDetectingControlTest {
+  private static final int ALIVE_CELL_STATE = 1;
+
+  @Test
+  void advance_BlinkerWithStoppingOnCycle_StopsAfterOnePeriod() {
+    // Given
+    var world = new World(5, 5, new HashMap<>());
+    world.initWorld();
+    world.setCell(2, 1, ALIVE_CELL_STATE);
+    world.setCell(2, 2, ALIVE_CELL_STATE);
+    world.setCell(2, 3, ALIVE_CELL_STATE);
+    var control = new CycleDetectingControl(world::getHash, 16, true);
+
+    // When
+    var advancedNo = world.advance(1_000, control);
+
+    // Then
+    assertThat(advancedNo).isEqualTo(2);
+    assertThat(control.getCycle()).hasValueSatisfying(cycle -> {
+      assertThat(cycle.getStartGeneration()).isZero();
+      assertThat(cycle.getPeriod()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  void advance_BlockWithoutStoppingOnCycle_StillLifeReportedAndAllGenerationsAdvanced() {
+    // Given
+    var world = new World(4, 4, new HashMap<>());
+    world.initWorld();
+    world.setCell(1, 1, ALIVE_CELL_STATE);
+    world.setCell(1, 2, ALIVE_CELL_STATE);
+    world.setCell(2, 1, ALIVE_CELL_STATE);
+    world.setCell(2, 2, ALIVE_CELL_STATE);
+    var control = new CycleDetectingControl(world::getHash, 16, false);
+
+    // When
+    var advancedNo = world.advance(10, control);
+
+    // Then
+    assertThat(advancedNo).isEqualTo(10);
+    assertThat(control.getCycle()).hasValueSatisfying(cycle -> {
+      assertThat(cycle.getStartGeneration()).isZero();
+      assertThat(cycle.isStillLife()).isTrue();
+    });
+  }
+
+  @Test
+  void advance_GliderOnBoundedWorld_NoCycleWhileGliderMoves() {
+    // Given
+    var world = new World(40, 40, new HashMap<>());
+    world.initWorld();
+    world.setCell(0, 1, ALIVE_CELL_STATE);
+    world.setCell(1, 2, ALIVE_CELL_STATE);
+    world.setCell(2, 0, ALIVE_CELL_STATE);
+    world.setCell(2, 1, ALIVE_CELL_STATE);
+    world.setCell(2, 2, ALIVE_CELL_STATE);
+    var control = new CycleDetectingControl(world::getHash, 64, true);
+
+    // When
+    var advancedNo = world.advance(20, control);
+
+    // Then
+    assertThat(advancedNo).isEqualTo(20);
+    assertThat(control.getCycle()).isEmpty();
+  }
+}
@@ -0,0 +1,61 @@
+package com.raczyk.gameoflife.world.cycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CycleDetectorTest {
+
+  @Test
+  void record_RepeatingHashes_CycleWithPeriod() {
+    // Given
+    var detector = new CycleDetector(8);
+    detector.record(0, 11);
+    detector.record(1, 12);
+    detector.record(2, 13);
+
+    // When
+    var cycle = detector.record(3, 12);
+
+    // Then
+    assertThat(cycle).hasValueSatisfying(detected -> {
+      assertThat(detected.getStartGeneration()).isEqualTo(1);
+      assertThat(detected.getPeriod()).isEqualTo(2);
+      assertThat(detected.isStillLife()).isFalse();
+    });
+  }
+
+  @Test
+  void record_PeriodLongerThanHistory_NoCycle() {
+    // Given
+    var detector = new CycleDetector(2);
+    detector.record(0, 11);
+    detector.record(1, 12);
+    detector.record(2, 13);
+
+    // When
+    var cycle = detector.record(3, 11);
+
+    // Then
+    assertThat(cycle).isEmpty();
+  }
+
+  @Test
+  void record_HashRepeatedAfterEviction_LatestGenerationRemembered() {
+    // Given
+    var detector = new CycleDetector(2);
+    detector.record(0, 11);
+    detector.record(1, 12);
+    detector.record(2, 11);
+    detector.record(3, 12);
+
+    // When
+    var cycle = detector.record(4, 11);
+
+    // Then
+    assertThat(cycle).hasValueSatisfying(detected -> {
+      assertThat(detected.getStartGeneration()).isEqualTo(2);
+      assertThat(detected.getPeriod()).isEqualTo(2);
+    });
+  }
+}
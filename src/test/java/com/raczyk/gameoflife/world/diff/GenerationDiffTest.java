@@ -0,0 +1,50 @@
+package com.raczyk.gameoflife.world.diff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.PointKey;
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GenerationDiffTest {
+  private static final int SEED = 4;
+
+  @Test
+  void onGeneration_DiffsAppliedToInitialCells_SameCellsAsWorld() {
+    // Given
+    final var columnNo = 30;
+    final var rowNo = 40;
+    var world = new World(columnNo, rowNo, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    var mirroredCells = new BitGrid(columnNo, rowNo);
+    for (int coordinateX = 0; coordinateX < columnNo; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < rowNo; coordinateY++) {
+        mirroredCells.setCell(coordinateX, coordinateY, world.getCell(coordinateX, coordinateY));
+      }
+    }
+    world.subscribe(diff -> {
+      apply(mirroredCells, diff.getBorn(), 1);
+      apply(mirroredCells, diff.getDied(), 0);
+    });
+
+    // When
+    world.advance(25);
+
+    // Then
+    for (int coordinateX = 0; coordinateX < columnNo; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < rowNo; coordinateY++) {
+        assertThat(mirroredCells.getCell(coordinateX, coordinateY))
+            .isEqualTo(world.getCell(coordinateX, coordinateY));
+      }
+    }
+  }
+
+  private static void apply(BitGrid cells, long[] keys, int state) {
+    for (long key : keys) {
+      cells.setCell(PointKey.getCoordinateX(key), PointKey.getCoordinateY(key), state);
+    }
+  }
+}
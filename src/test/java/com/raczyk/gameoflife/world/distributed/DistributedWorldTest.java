@@ -0,0 +1,135 @@
+package com.raczyk.gameoflife.world.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.EXTRACTION;
+
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DistributedWorldTest {
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @Test
+  void advance_WorkersInSeparateProcesses_SameGenerationsAsWorld() throws Exception {
+    // Given
+    final var columnNo = 40;
+    final var rowNo = 70;
+    final var generations = 30;
+    var world = new World(columnNo, rowNo, new HashMap<>());
+    world.initWorld(new Random(SEED));
+    try (var distributedWorld = new DistributedWorld(columnNo, rowNo, Rule.CONWAY, 3,
+        new ProcessWorkerLauncher())) {
+      distributedWorld.initWorld(new Random(SEED));
+
+      // When
+      world.advance(generations);
+      distributedWorld.advance(generations);
+
+      // Then
+      assertThat(distributedWorld.getWorldRepresentation())
+          .isEqualTo(world.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void advance_BandsOfSingleLineWithHighLifeRule_SameGenerationsAsWorld() throws Exception {
+    // Given
+    final var columnNo = 5;
+    final var rowNo = 66;
+    final var generations = 20;
+    var highLife = Rule.parse("B36/S23");
+    var world = new World(columnNo, rowNo, new HashMap<>(), highLife);
+    world.initWorld(new Random(SEED));
+    try (var distributedWorld = new DistributedWorld(columnNo, rowNo, highLife, columnNo,
+        new ThreadWorkerLauncher())) {
+      distributedWorld.initWorld(new Random(SEED));
+
+      for (int generation = 0; generation < generations; generation++) {
+        // When
+        world.setNextGeneration();
+        world.evolveToNextGeneration();
+        distributedWorld.setNextGeneration();
+        distributedWorld.evolveToNextGeneration();
+
+        // Then
+        assertThat(distributedWorld.getWorldRepresentation())
+            .isEqualTo(world.getWorldRepresentation());
+      }
+    }
+  }
+
+  @Test
+  void snapshot_RandomWorld_BitBoardWorldWithSameCells() throws Exception {
+    // Given
+    try (var world = new DistributedWorld(20, 30, Rule.CONWAY, 4,
+        new ThreadWorkerLauncher())) {
+      world.initWorld(new Random(SEED));
+      world.advance(5);
+
+      // When
+      var snapshot = world.snapshot();
+
+      // Then
+      assertThat(snapshot.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+      assertThat(snapshot.getRule()).isEqualTo(Rule.CONWAY);
+    }
+  }
+
+  @Test
+  void constructor_MoreWorkersThanColumns_IllegalArgumentException() {
+    // When Then
+    assertThatThrownBy(() -> new DistributedWorld(COLUMN_NO, ROW_NO, Rule.CONWAY, 4,
+        new ThreadWorkerLauncher()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void constructor_WorkerWithUnexpectedNumber_ExceptionThrownAndWorkersStopped() {
+    // Given
+    var launcher = new ThreadWorkerLauncher() {
+      @Override
+      public void launch(int port, int workerNo) {
+        super.launch(port, workerNo + 1);
+      }
+    };
+
+    // When Then
+    assertThatThrownBy(() -> new DistributedWorld(COLUMN_NO, ROW_NO, Rule.CONWAY, 2, launcher))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("Unexpected worker number 2");
+  }
+
+  @Test
+  void close_FirstBandConnectionBroken_AllConnectionsAndLauncherClosed() throws Exception {
+    // Given
+    var launcherClosed = new AtomicBoolean();
+    var launcher = new ThreadWorkerLauncher() {
+      @Override
+      public void close() throws IOException {
+        launcherClosed.set(true);
+        super.close();
+      }
+    };
+    var world = new DistributedWorld(COLUMN_NO, ROW_NO, Rule.CONWAY, 3, launcher);
+    var sockets = Arrays.stream((Object[]) EXTRACTION.getValueOf("bands", world))
+        .map(band -> (Socket) EXTRACTION.getValueOf("socket", band))
+        .collect(Collectors.toList());
+    sockets.get(0).close();
+
+    // When Then
+    assertThatThrownBy(world::close).isInstanceOf(IOException.class);
+    assertThat(sockets).allMatch(Socket::isClosed);
+    assertThat(launcherClosed).isTrue();
+  }
+}
@@ -0,0 +1,107 @@
+package com.raczyk.gameoflife.world.frontier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.diff.GenerationDiff;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ForkJoinFrontierStepperTest {
+  private static final int SEED = 4;
+
+  @Test
+  void step_RandomWorld_SameGenerationsAndDiffsAsSequentialStepper() {
+    // Given
+    final var columnNo = 150;
+    final var rowNo = 200;
+    final var generations = 20;
+    var highLife = Rule.parse("B36/S23");
+    var sequentialWorld = new World(columnNo, rowNo, new HashMap<>(), highLife);
+    var sequentialDiffs = new ArrayList<GenerationDiff>();
+    var parallelDiffs = new ArrayList<GenerationDiff>();
+    try (var stepper = new ForkJoinFrontierStepper(4)) {
+      var parallelWorld = new World(columnNo, rowNo, new HashMap<>(), highLife,
+          Topology.BOUNDED, stepper);
+      sequentialWorld.initWorld(new Random(SEED));
+      parallelWorld.initWorld(new Random(SEED));
+      sequentialWorld.subscribe(sequentialDiffs::add);
+      parallelWorld.subscribe(parallelDiffs::add);
+
+      // When
+      for (int generation = 0; generation < generations; generation++) {
+        sequentialWorld.setNextGeneration();
+        sequentialWorld.evolveToNextGeneration();
+        parallelWorld.setNextGeneration();
+        parallelWorld.evolveToNextGeneration();
+      }
+      parallelWorld.advance(generations);
+      sequentialWorld.advance(generations);
+
+      // Then
+      assertThat(parallelWorld.getWorldRepresentation())
+          .isEqualTo(sequentialWorld.getWorldRepresentation());
+      assertThat(parallelWorld.getHash()).isEqualTo(sequentialWorld.getHash());
+      assertThat(parallelDiffs).usingRecursiveFieldByFieldElementComparator()
+          .isEqualTo(sequentialDiffs);
+    }
+  }
+
+  @Test
+  void step_MoreThreadsThanFrontierCells_AllCellsEvaluated() {
+    // Given
+    var pool = new ForkJoinPool(8);
+    var world = new World(3, 3, new HashMap<>(), Rule.CONWAY, Topology.BOUNDED,
+        new ForkJoinFrontierStepper(pool, 1));
+    world.initWorld();
+    world.setCell(1, 0, 1);
+    world.setCell(1, 1, 1);
+    world.setCell(1, 2, 1);
+
+    // When
+    try {
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+    } finally {
+      pool.shutdown();
+    }
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo("# X # \n"
+        + "# X # \n"
+        + "# X # \n");
+  }
+
+  @Test
+  void close_StepperWithOwnPool_PoolShutDown() {
+    // Given
+    var stepper = new ForkJoinFrontierStepper(2);
+
+    // When
+    stepper.close();
+
+    // Then
+    assertThat(stepper).extracting("pool", type(ForkJoinPool.class))
+        .returns(true, ForkJoinPool::isShutdown);
+  }
+
+  @Test
+  void close_StepperWithCallerPool_PoolStillRunning() {
+    // Given
+    var pool = new ForkJoinPool(2);
+    var stepper = new ForkJoinFrontierStepper(pool, 1);
+
+    // When
+    stepper.close();
+
+    // Then
+    assertThat(pool.isShutdown()).isFalse();
+    pool.shutdown();
+  }
+}
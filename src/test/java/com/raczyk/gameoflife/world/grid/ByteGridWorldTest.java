@@ -0,0 +1,79 @@
+package com.raczyk.gameoflife.world.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests use the same world as WorldTest, generated by Random with fixed seed equal to 4.
+ */
+class ByteGridWorldTest {
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @Test
+  void setNextGeneration_WorldInitializedWithRandomWithGivenSeed_CurrentGenerationUnchanged() {
+    // Given
+    var world = new ByteGridWorld(COLUMN_NO, ROW_NO);
+    world.initWorld(new Random(SEED));
+    var initialRepresentation = world.getWorldRepresentation();
+
+    // When
+    world.setNextGeneration();
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(initialRepresentation);
+  }
+
+  @Test
+  void advance_RandomWorldWithHighLifeRule_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 17;
+    final var rowNo = 23;
+    final var generations = 20;
+    var highLife = Rule.parse("B36/S23");
+    var world = new World(columnNo, rowNo, new HashMap<>(), highLife);
+    var byteGridWorld = new ByteGridWorld(columnNo, rowNo, highLife);
+    world.initWorld(new Random(SEED));
+    byteGridWorld.initWorld(new Random(SEED));
+
+    for (int generation = 0; generation < generations; generation++) {
+      // When
+      world.advance(1);
+      byteGridWorld.advance(1);
+
+      // Then
+      assertThat(byteGridWorld.getWorldRepresentation())
+          .isEqualTo(world.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void advance_RandomWorldOnTorusAndKleinBottle_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 11;
+    final var rowNo = 8;
+    final var generations = 30;
+    for (Topology topology : Topology.values()) {
+      var world = new World(columnNo, rowNo, new HashMap<>(), Rule.CONWAY, topology);
+      var byteGridWorld = new ByteGridWorld(columnNo, rowNo, Rule.CONWAY, topology);
+      world.initWorld(new Random(SEED));
+      byteGridWorld.initWorld(new Random(SEED));
+
+      // When
+      world.advance(generations);
+      byteGridWorld.advance(generations);
+
+      // Then
+      assertThat(byteGridWorld.getWorldRepresentation())
+          .as(topology.name())
+          .isEqualTo(world.getWorldRepresentation());
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.raczyk.gameoflife.world.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StateBuffersTest {
+  private static final int CELLS_NO = 4;
+
+  @Test
+  void flip_NewBuffers_NextBufferBecomesCurrent() {
+    // Given
+    var stateBuffers = new StateBuffers(CELLS_NO);
+    var current = stateBuffers.getCurrent();
+    var next = stateBuffers.getNext();
+
+    // When
+    stateBuffers.flip();
+
+    // Then
+    assertThat(stateBuffers.getCurrent()).isSameAs(next);
+    assertThat(stateBuffers.getNext()).isSameAs(current);
+    assertThat(stateBuffers.getGenerationIndex()).isEqualTo(1);
+  }
+
+  @Test
+  void flip_FlippedTwice_BuffersBackInPlace() {
+    // Given
+    var stateBuffers = new StateBuffers(CELLS_NO);
+    var current = stateBuffers.getCurrent();
+
+    // When
+    stateBuffers.flip();
+    stateBuffers.flip();
+
+    // Then
+    assertThat(stateBuffers.getCurrent()).isSameAs(current).hasSize(CELLS_NO);
+    assertThat(stateBuffers.getGenerationIndex()).isZero();
+  }
+}
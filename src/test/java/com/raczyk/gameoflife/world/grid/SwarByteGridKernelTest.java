@@ -0,0 +1,55 @@
+package com.raczyk.gameoflife.world.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.Topology;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SwarByteGridKernelTest {
+  private static final int SEED = 4;
+
+  @Test
+  void step_RandomCellsWithTailShorterThanLong_SameGenerationAsScalarKernel() {
+    // Given
+    final var columnNo = 13;
+    final var rowNo = 37;
+    final var stride = rowNo + 2;
+    var random = new Random(SEED);
+    var source = new byte[(columnNo + 2) * stride];
+    for (int index = 0; index < source.length; index++) {
+      source[index] = (byte) random.nextInt(2);
+    }
+    var scalarTarget = new byte[source.length];
+    var swarTarget = new byte[source.length];
+    new ScalarByteGridKernel().step(Rule.CONWAY, source, scalarTarget, columnNo, rowNo);
+
+    // When
+    new SwarByteGridKernel().step(Rule.CONWAY, source, swarTarget, columnNo, rowNo);
+
+    // Then
+    assertThat(swarTarget).isEqualTo(scalarTarget);
+  }
+
+  @Test
+  void step_EveryRuleNeighbourNumber_SameGenerationAsScalarKernel() {
+    // Given
+    final var size = 24;
+    var rule = Rule.parse("B012345678/S02468");
+    var scalarWorld = new ByteGridWorld(size, size, rule, Topology.TORUS,
+        new ScalarByteGridKernel());
+    var swarWorld = new ByteGridWorld(size, size, rule, Topology.TORUS,
+        new SwarByteGridKernel());
+    scalarWorld.initWorld(new Random(SEED));
+    swarWorld.initWorld(new Random(SEED));
+
+    // When
+    scalarWorld.advance(10);
+    swarWorld.advance(10);
+
+    // Then
+    assertThat(swarWorld.getWorldRepresentation())
+        .isEqualTo(scalarWorld.getWorldRepresentation());
+  }
+}
@@ -0,0 +1,151 @@
+package com.raczyk.gameoflife.world.hashlife;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.AdvanceControl;
+import com.raczyk.gameoflife.world.PointKey;
+import com.raczyk.gameoflife.world.rule.Rule;
+import com.raczyk.gameoflife.world.sparse.SparseWorld;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HashLifeWorldTest {
+  private static final int ALIVE_CELL_STATE = 1;
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @Test
+  void advance_BillionGenerationsOfGlider_GliderMovedDiagonally() {
+    // Given
+    final var generations = 1_000_000_000L;
+    var world = new HashLifeWorld(5, 5);
+    setGlider(world);
+
+    // When
+    world.advance(generations);
+
+    // Then
+    final var distance = generations / 4;
+    assertThat(world.getGeneration()).isEqualTo(generations);
+    assertThat(world.getPopulation()).isEqualTo(5);
+    assertThat(world.isAlive(distance, 1 - distance)).isTrue();
+    assertThat(world.isAlive(1 + distance, -distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, -distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, 1 - distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, 2 - distance)).isTrue();
+  }
+
+  @Test
+  void advancePowerOfTwo_RandomSoup_SameCellsAsSparseWorld() {
+    // Given
+    final var size = 24;
+    final var stepLog2 = 6;
+    var highLife = Rule.parse("B36/S23");
+    var world = new HashLifeWorld(size, size, highLife);
+    var sparseWorld = new SparseWorld(size, size, highLife);
+    world.initWorld(new Random(SEED));
+    sparseWorld.initWorld(new Random(SEED));
+    for (int generation = 0; generation < 1 << stepLog2; generation++) {
+      sparseWorld.setNextGeneration();
+      sparseWorld.evolveToNextGeneration();
+    }
+
+    // When
+    world.advancePowerOfTwo(stepLog2);
+
+    // Then
+    assertThat(world.getPopulation()).isEqualTo(sparseWorld.getPopulation());
+    sparseWorld.forEachAliveCell(key -> assertThat(
+        world.isAlive(PointKey.getCoordinateX(key), PointKey.getCoordinateY(key))).isTrue());
+  }
+
+  @Test
+  void advance_SmallNodeLimits_SameCellsAsWithoutLimits() {
+    // Given
+    final var size = 16;
+    final var generations = 100L;
+    var world = new HashLifeWorld(size, size);
+    var limitedWorld = new HashLifeWorld(size, size, Rule.CONWAY, 64, 16);
+    world.initWorld(new Random(SEED));
+    limitedWorld.initWorld(new Random(SEED));
+
+    // When
+    world.advance(generations);
+    limitedWorld.advance(generations);
+
+    // Then
+    assertThat(limitedWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+    assertThat(limitedWorld.getPopulation()).isEqualTo(world.getPopulation());
+  }
+
+  @Test
+  void setNextGeneration_StepByStep_SameAsAdvance() {
+    // Given
+    final var size = 10;
+    final var generations = 13;
+    var world = new HashLifeWorld(size, size);
+    var steppedWorld = new HashLifeWorld(size, size);
+    world.initWorld(new Random(SEED));
+    steppedWorld.initWorld(new Random(SEED));
+
+    // When
+    world.advance(generations);
+    for (int generation = 0; generation < generations; generation++) {
+      steppedWorld.setNextGeneration();
+      steppedWorld.evolveToNextGeneration();
+    }
+
+    // Then
+    assertThat(steppedWorld.getWorldRepresentation())
+        .isEqualTo(world.getWorldRepresentation());
+    assertThat(steppedWorld.getGeneration()).isEqualTo(generations);
+  }
+
+  @Test
+  void advance_CancelledAfterFirstPowerOfTwoStep_OnlyFirstStepAdvanced() {
+    // Given
+    var world = new HashLifeWorld(5, 5);
+    setGlider(world);
+    var progress = new ArrayList<Long>();
+    var control = new AdvanceControl() {
+      @Override
+      public boolean isCancelled() {
+        return !progress.isEmpty();
+      }
+
+      @Override
+      public void onProgress(long advancedNo, long generationsNo) {
+        progress.add(advancedNo);
+      }
+    };
+
+    // When
+    var advancedNo = world.advance(12L, control);
+
+    // Then
+    assertThat(advancedNo).isEqualTo(4L);
+    assertThat(progress).containsExactly(4L);
+    assertThat(world.getGeneration()).isEqualTo(4L);
+  }
+
+  @Test
+  void constructor_RuleWithBirthWithoutNeighbours_ExceptionThrown() {
+    // Given
+    var rule = Rule.parse("B0/S8");
+
+    // When Then
+    assertThatThrownBy(() -> new HashLifeWorld(COLUMN_NO, ROW_NO, rule))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void setGlider(HashLifeWorld world) {
+    world.setCell(0, 1, ALIVE_CELL_STATE);
+    world.setCell(1, 0, ALIVE_CELL_STATE);
+    world.setCell(2, 0, ALIVE_CELL_STATE);
+    world.setCell(2, 1, ALIVE_CELL_STATE);
+    world.setCell(2, 2, ALIVE_CELL_STATE);
+  }
+}
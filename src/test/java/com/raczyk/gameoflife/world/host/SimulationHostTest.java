@@ -0,0 +1,253 @@
+package com.raczyk.gameoflife.world.host;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.WorldEngine;
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SimulationHostTest {
+  private static final int SEED = 4;
+  private static final long TIMEOUT_SECONDS = 30;
+
+  @Test
+  void submit_ManyWorlds_EachWorldSameAsAdvancedAlone() throws Exception {
+    // Given
+    final var worldsNo = 200;
+    final var generations = 50L;
+    var expectedWorld = new BitBoardWorld(16, 16);
+    expectedWorld.initWorld(new Random(SEED));
+    expectedWorld.advance(generations);
+    var hostedWorlds = new ArrayList<HostedWorld>();
+
+    // When
+    try (var host = new SimulationHost(2, 7)) {
+      for (int worldNo = 0; worldNo < worldsNo; worldNo++) {
+        var world = new BitBoardWorld(16, 16);
+        world.initWorld(new Random(SEED));
+        hostedWorlds.add(host.submit(world, generations));
+      }
+      awaitAll(hostedWorlds);
+    }
+
+    // Then
+    assertThat(hostedWorlds).allSatisfy(hostedWorld -> {
+      assertThat(hostedWorld.getAdvancedNo()).isEqualTo(generations);
+      assertThat(hostedWorld.getWorld().getWorldRepresentation())
+          .isEqualTo(expectedWorld.getWorldRepresentation());
+    });
+  }
+
+  @Test
+  void submit_MoreThreadsThanSteppers_NoMoreWorldsSteppingThanAllowed() throws Exception {
+    // Given
+    final var maxSteppersNo = 2;
+    var steppingNo = new AtomicInteger();
+    var maxSteppingNo = new AtomicInteger();
+    var hostedWorlds = new ArrayList<HostedWorld>();
+
+    // When
+    try (var host = new SimulationHost(Executors.newFixedThreadPool(8), maxSteppersNo, 3)) {
+      for (int worldNo = 0; worldNo < 16; worldNo++) {
+        hostedWorlds.add(host.submit(new ConcurrencyProbeWorld(steppingNo, maxSteppingNo), 30));
+      }
+      awaitAll(hostedWorlds);
+    }
+
+    // Then
+    assertThat(maxSteppingNo.get()).isBetween(1, maxSteppersNo);
+  }
+
+  @Test
+  void pause_RunningWorld_NoGenerationsUntilResumed() throws Exception {
+    // Given
+    var firstStep = new CountDownLatch(1);
+    var firstStepRelease = new CountDownLatch(1);
+    var world = new FirstStepBlockingWorld(firstStep, firstStepRelease);
+    try (var host = new SimulationHost(1, 10)) {
+      var hostedWorld = host.submit(world, 1_000);
+      firstStep.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      // When
+      var stop = hostedWorld.pause();
+      firstStepRelease.countDown();
+      stop.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      // Then
+      assertThat(hostedWorld.isPaused()).isTrue();
+      assertThat(hostedWorld.getAdvancedNo()).isEqualTo(1);
+      assertThat(world.getStepsNo()).isEqualTo(1);
+      assertThat(hostedWorld.getCompletion()).isNotDone();
+      hostedWorld.resume();
+      assertThat(hostedWorld.getCompletion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+          .getAdvancedNo()).isEqualTo(1_000);
+      assertThat(world.getStepsNo()).isEqualTo(1_000);
+    }
+  }
+
+  @Test
+  void pause_IdleWorld_StopCompletedImmediately() throws Exception {
+    // Given
+    try (var host = new SimulationHost(1, 5)) {
+      var world = new BitBoardWorld(4, 4);
+      world.initWorld(new Random(SEED));
+      var hostedWorld = host.submit(world, 10);
+      hostedWorld.getCompletion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      // When
+      var stop = hostedWorld.pause();
+
+      // Then
+      assertThat(stop).isCompletedWithValue(hostedWorld);
+    }
+  }
+
+  @Test
+  void cancel_EndlessWorld_CompletionCancelled() throws Exception {
+    // Given
+    var firstStep = new CountDownLatch(1);
+    try (var host = new SimulationHost(1, 5)) {
+      var hostedWorld = host.submit(new StepCountingWorld(firstStep));
+      firstStep.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      // When
+      hostedWorld.cancel();
+
+      // Then
+      assertThatThrownBy(() -> hostedWorld.getCompletion().get())
+          .isInstanceOf(CancellationException.class);
+    }
+  }
+
+  @Test
+  void close_EndlessWorldRunning_HostClosedAndCompletionUntouched() throws Exception {
+    // Given
+    var firstStep = new CountDownLatch(1);
+    var host = new SimulationHost(1, 5);
+    var hostedWorld = host.submit(new StepCountingWorld(firstStep));
+    firstStep.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    // When
+    host.close();
+
+    // Then
+    assertThat(hostedWorld.getCompletion()).isNotDone();
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  private static void awaitAll(List<HostedWorld> hostedWorlds)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture.allOf(hostedWorlds.stream()
+            .map(HostedWorld::getCompletion)
+            .toArray(CompletableFuture[]::new))
+        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  private static class StepCountingWorld implements WorldEngine {
+    private final CountDownLatch firstStep;
+
+    StepCountingWorld(CountDownLatch firstStep) {
+      this.firstStep = firstStep;
+    }
+
+    @Override
+    public void initWorld(Random random) {
+    }
+
+    @Override
+    public void setNextGeneration() {
+      firstStep.countDown();
+    }
+
+    @Override
+    public void evolveToNextGeneration() {
+    }
+
+    @Override
+    public void appendRepresentation(Appendable output) throws IOException {
+    }
+  }
+
+  private static class FirstStepBlockingWorld implements WorldEngine {
+    private final CountDownLatch firstStep;
+    private final CountDownLatch firstStepRelease;
+    private final AtomicLong stepsNo;
+
+    FirstStepBlockingWorld(CountDownLatch firstStep, CountDownLatch firstStepRelease) {
+      this.firstStep = firstStep;
+      this.firstStepRelease = firstStepRelease;
+      this.stepsNo = new AtomicLong();
+    }
+
+    long getStepsNo() {
+      return stepsNo.get();
+    }
+
+    @Override
+    public void initWorld(Random random) {
+    }
+
+    @Override
+    public void setNextGeneration() {
+      if (stepsNo.incrementAndGet() == 1) {
+        firstStep.countDown();
+        try {
+          firstStepRelease.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void evolveToNextGeneration() {
+    }
+
+    @Override
+    public void appendRepresentation(Appendable output) throws IOException {
+    }
+  }
+
+  private static class ConcurrencyProbeWorld implements WorldEngine {
+    private final AtomicInteger steppingNo;
+    private final AtomicInteger maxSteppingNo;
+
+    ConcurrencyProbeWorld(AtomicInteger steppingNo, AtomicInteger maxSteppingNo) {
+      this.steppingNo = steppingNo;
+      this.maxSteppingNo = maxSteppingNo;
+    }
+
+    @Override
+    public void initWorld(Random random) {
+    }
+
+    @Override
+    public void setNextGeneration() {
+      maxSteppingNo.accumulateAndGet(steppingNo.incrementAndGet(), Math::max);
+      Thread.onSpinWait();
+      steppingNo.decrementAndGet();
+    }
+
+    @Override
+    public void evolveToNextGeneration() {
+    }
+
+    @Override
+    public void appendRepresentation(Appendable output) throws IOException {
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.raczyk.gameoflife.world.init;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class BulkInitializerTest {
+  private static final long SEED = 4L;
+
+  @Test
+  void fill_DifferentNumbersOfThreads_SameCells() throws Exception {
+    // Given
+    var initializer = new BulkInitializer(SEED, 0.3);
+    var singleThreadCells = new BitGrid(300, 130);
+    var manyThreadsCells = new BitGrid(300, 130);
+
+    // When
+    new ForkJoinPool(1).submit(() -> initializer.fill(singleThreadCells)).get();
+    new ForkJoinPool(4).submit(() -> initializer.fill(manyThreadsCells)).get();
+
+    // Then
+    for (int coordinateX = 0; coordinateX < 300; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < 130; coordinateY++) {
+        assertThat(manyThreadsCells.getCell(coordinateX, coordinateY))
+            .isEqualTo(singleThreadCells.getCell(coordinateX, coordinateY));
+      }
+    }
+  }
+
+  @Test
+  void generate_GivenDensity_PopulationCloseToDensity() {
+    // Given
+    final var size = 512;
+    var initializer = new BulkInitializer(SEED, 0.1);
+
+    // When
+    var cells = initializer.generate(size, size);
+
+    // Then
+    assertThat((double) cells.getPopulation() / (size * size)).isCloseTo(0.1, within(0.005));
+  }
+
+  @Test
+  void generate_ExtremeDensities_NoneOrAllCellsAlive() {
+    // When
+    var emptyCells = new BulkInitializer(SEED, 0).generate(10, 100);
+    var fullCells = new BulkInitializer(SEED, 1).generate(10, 100);
+
+    // Then
+    assertThat(emptyCells.getPopulation()).isZero();
+    assertThat(fullCells.getPopulation()).isEqualTo(1000);
+  }
+
+  @Test
+  void constructor_DensityAboveOne_IllegalArgumentException() {
+    // When Then
+    assertThatThrownBy(() -> new BulkInitializer(SEED, 1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void initWorld_SameInitializer_WorldAndBitBoardWorldEqual() {
+    // Given
+    var initializer = new BulkInitializer(SEED, 0.4);
+    var world = new World(20, 70, new HashMap<>());
+    var bitBoardWorld = new BitBoardWorld(20, 70);
+
+    // When
+    world.initWorld(initializer);
+    bitBoardWorld.initWorld(initializer);
+
+    // Then
+    assertThat(world.getWorldRepresentation()).isEqualTo(bitBoardWorld.getWorldRepresentation());
+    assertThat(world.getPopulation()).isEqualTo(bitBoardWorld.getCurrentGeneration()
+        .getPopulation());
+  }
+}
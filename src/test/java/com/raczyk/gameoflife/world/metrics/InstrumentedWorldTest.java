@@ -0,0 +1,137 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.raczyk.gameoflife.world.World;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Random;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests use the same world as WorldTest, generated by Random with fixed seed equal to 4.
+ */
+class InstrumentedWorldTest {
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void evolveToNextGeneration_WorldInitializedWithRandomWithGivenSeed_GenerationRecorded() {
+    // Given
+    var world = new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>()));
+    world.initWorld(new Random(SEED));
+    world.setNextGeneration();
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    var metrics = world.getMetrics();
+    assertThat(metrics.getGeneration()).isEqualTo(1);
+    assertThat(metrics.getPopulation()).isEqualTo(5);
+    assertThat(metrics.getBirthsNo()).isEqualTo(2);
+    assertThat(metrics.getDeathsNo()).isEqualTo(3);
+    assertThat(metrics.getLatency(Operation.SET_NEXT_GENERATION).getCount()).isEqualTo(1);
+    assertThat(metrics.getLatency(Operation.EVOLVE_TO_NEXT_GENERATION).getCount()).isEqualTo(1);
+    assertThat(metrics.getLatency(Operation.INIT_WORLD).getMax()).isPositive();
+  }
+
+  @Test
+  void getWorldRepresentation_MetricsDisabled_NothingRecorded() {
+    // Given
+    var world = new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>()));
+    world.initWorld(new Random(SEED));
+    world.getMetrics().setEnabled(false);
+
+    // When
+    var representation = world.getWorldRepresentation();
+    world.advance(3);
+
+    // Then
+    assertThat(representation).isEqualTo("X X X \nX X # \nX # # \n");
+    assertThat(world.getMetrics().getLatency(Operation.REPRESENTATION).getCount()).isZero();
+    assertThat(world.getMetrics().getTotalBirthsNo()).isZero();
+    assertThat(world.getMetrics().getGeneration()).isZero();
+  }
+
+  @Test
+  void evolveToNextGeneration_MetricsDisabled_EnabledFlagReadOnceAndNothingRecorded() {
+    // Given
+    var metrics = mock(WorldMetrics.class);
+    var world = new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>()), metrics);
+
+    // When
+    world.evolveToNextGeneration();
+
+    // Then
+    verify(metrics).isEnabled();
+    verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void register_AdvancedWorld_AttributesReadableThroughJmx() throws Exception {
+    // Given
+    var world = new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>()));
+    world.initWorld(new Random(SEED));
+    world.advance(2);
+    var server = ManagementFactory.getPlatformMBeanServer();
+
+    // When
+    var objectName = world.getMetrics().register("jmx-test");
+
+    // Then
+    try {
+      assertThat(server.getAttribute(objectName, "Generation")).isEqualTo(2L);
+      assertThat(server.getAttribute(objectName, "Population"))
+          .isEqualTo(world.getWorld().getPopulation());
+      var latencies = (TabularData) server.getAttribute(objectName, "Latencies");
+      var setNextGeneration = (CompositeData) latencies
+          .get(new Object[] {Operation.SET_NEXT_GENERATION.name()}).get("value");
+      assertThat(setNextGeneration.get("count")).isEqualTo(2L);
+    } finally {
+      server.unregisterMBean(objectName);
+    }
+  }
+
+  @Test
+  void setNextGeneration_RecordingEnabled_FlightRecorderEventsCommitted() throws Exception {
+    // Given
+    var world = new InstrumentedWorld(new World(COLUMN_NO, ROW_NO, new HashMap<>()));
+    var recordingFile = directory.resolve("world.jfr");
+
+    // When
+    try (var recording = new Recording()) {
+      recording.enable(WorldOperationEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+      world.initWorld(new Random(SEED));
+      world.advance(3);
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // Then
+    var events = RecordingFile.readAllEvents(recordingFile);
+    assertThat(events)
+        .filteredOn(event -> event.getString("operation").equals("EVOLVE_TO_NEXT_GENERATION"))
+        .hasSize(3)
+        .last()
+        .satisfies(event -> assertThat(event.getLong("generation")).isEqualTo(3));
+    assertThat(events)
+        .filteredOn(event -> event.getString("operation").equals("INIT_WORLD"))
+        .hasSize(1);
+  }
+}
@@ -0,0 +1,53 @@
+package com.raczyk.gameoflife.world.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void getPercentile_ValuesFromOneToThousand_PercentilesWithinBucketPrecision() {
+    // Given
+    var histogram = new LatencyHistogram();
+
+    // When
+    LongStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+    // Then
+    assertThat(histogram.getCount()).isEqualTo(1000);
+    assertThat(histogram.getMax()).isEqualTo(1000);
+    assertThat(histogram.getPercentile(50)).isBetween(500L, 562L);
+    assertThat(histogram.getPercentile(99)).isBetween(990L, 1000L);
+    assertThat(histogram.getPercentile(100)).isEqualTo(1000);
+  }
+
+  @Test
+  void getPercentile_NothingRecorded_Zero() {
+    // Given
+    var histogram = new LatencyHistogram();
+
+    // When
+    var summary = histogram.getSummary();
+
+    // Then
+    assertThat(summary.getP50()).isZero();
+    assertThat(summary.getP99()).isZero();
+    assertThat(summary.getMax()).isZero();
+  }
+
+  @Test
+  void getBucketUpperBound_EveryBucket_ContainsValuesOfBucket() {
+    // Given
+    var values = LongStream.concat(LongStream.range(0, 10_000),
+        LongStream.of(Long.MAX_VALUE / 3, Long.MAX_VALUE));
+
+    // When Then
+    values.forEach(value -> {
+      var bucketNo = LatencyHistogram.getBucketNo(value);
+      assertThat(LatencyHistogram.getBucketUpperBound(bucketNo)).isGreaterThanOrEqualTo(value);
+      assertThat(LatencyHistogram.getBucketUpperBound(bucketNo - 1)).isLessThan(value);
+    });
+  }
+}
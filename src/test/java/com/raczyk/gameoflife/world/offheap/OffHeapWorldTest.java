@@ -0,0 +1,148 @@
+package com.raczyk.gameoflife.world.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.init.BulkInitializer;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OffHeapWorldTest {
+  private static final int COLUMN_NO = 3;
+  private static final int ROW_NO = 3;
+  private static final int SEED = 4;
+
+  @Test
+  void advance_ColumnsSpreadOverManyChunks_SameGenerationsAsWorld() {
+    // Given
+    final var columnNo = 150;
+    final var rowNo = 130;
+    final var generations = 20;
+    final var maxChunkWords = 7L * 5;
+    var world = new World(columnNo, rowNo, new HashMap<>(), Rule.parse("B36/S23"));
+    world.initWorld(new Random(SEED));
+    try (var offHeapWorld = new OffHeapWorld(
+        new OffHeapBitGrid(columnNo, rowNo, maxChunkWords),
+        new OffHeapBitGrid(columnNo, rowNo, maxChunkWords), Rule.parse("B36/S23"))) {
+      offHeapWorld.initWorld(new Random(SEED));
+
+      // When
+      world.advance(generations);
+      offHeapWorld.advance(generations);
+
+      // Then
+      assertThat(offHeapWorld.getCurrentGeneration().getChunksNo()).isEqualTo(22);
+      assertThat(offHeapWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+      assertThat(offHeapWorld.getCurrentGeneration().getPopulation())
+          .isEqualTo(world.getPopulation());
+    }
+  }
+
+  @Test
+  void initWorld_BulkInitializer_SameCellsAsBitBoardWorld() {
+    // Given
+    var initializer = new BulkInitializer(SEED, 0.3);
+    var bitBoardWorld = new BitBoardWorld(100, 70);
+    bitBoardWorld.initWorld(initializer);
+
+    // When
+    try (var world = new OffHeapWorld(100, 70)) {
+      world.initWorld(initializer);
+      world.advance(5);
+      bitBoardWorld.advance(5);
+
+      // Then
+      assertThat(world.getWorldRepresentation())
+          .isEqualTo(bitBoardWorld.getWorldRepresentation());
+    }
+  }
+
+  @Test
+  void close_ClosedWorld_CellsNoLongerAccessible() {
+    // Given
+    var world = new OffHeapWorld(COLUMN_NO, ROW_NO);
+    var cells = world.getCurrentGeneration();
+
+    // When
+    world.close();
+    world.close();
+
+    // Then
+    assertThat(cells.isOpen()).isFalse();
+    assertThatThrownBy(() -> cells.getCell(0, 0)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void advance_ClosedWorld_IllegalStateException() {
+    // Given
+    var world = new OffHeapWorld(COLUMN_NO, ROW_NO);
+    world.close();
+
+    // When Then
+    assertThatThrownBy(() -> world.advance(1)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void close_WorldClosedWhileAdvancing_AdvanceStoppedWithIllegalStateException()
+      throws Exception {
+    // Given
+    var world = new OffHeapWorld(512, 512);
+    world.initWorld(new Random(SEED));
+    var started = new CountDownLatch(1);
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var advance = executor.submit(() -> {
+        started.countDown();
+        world.advance(Long.MAX_VALUE);
+      });
+      started.await();
+
+      // When
+      world.close();
+
+      // Then
+      assertThatThrownBy(advance::get).hasCauseInstanceOf(IllegalStateException.class);
+      assertThat(world.getCurrentGeneration().isOpen()).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void close_GridClosedByManyThreads_ClosedOnce() throws Exception {
+    // Given
+    final var threadsNo = 8;
+    var cells = new OffHeapBitGrid(COLUMN_NO, ROW_NO);
+    var start = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(threadsNo);
+    try {
+      var closes = IntStream.range(0, threadsNo)
+          .mapToObj(threadNo -> executor.submit(() -> {
+            start.await();
+            cells.close();
+            return null;
+          }))
+          .collect(Collectors.toList());
+
+      // When
+      start.countDown();
+
+      // Then
+      for (Future<?> close : closes) {
+        assertThat(close.get()).isNull();
+      }
+      assertThat(cells.isOpen()).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.raczyk.gameoflife.world.rle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.World;
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.bitboard.BitGrid;
+import com.raczyk.gameoflife.world.rule.Rule;
+import com.raczyk.gameoflife.world.sparse.SparseWorld;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+class RleReaderTest {
+  private static final String GLIDER = "#N Glider\n"
+      + "#C Comment lines are skipped\n"
+      + "x = 3, y = 3, rule = B3/S23\n"
+      + "bob$2bo$3o!\n";
+
+  @Test
+  void readHeader_PatternWithComments_SizeAndRuleOfPattern() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader(GLIDER));
+
+    // When
+    var header = reader.readHeader();
+
+    // Then
+    assertThat(header).isEqualTo(new RleHeader(3, 3, Rule.CONWAY));
+  }
+
+  @Test
+  void readHeader_HeaderWithoutRule_ConwayRule() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader("x = 2, y = 5\n2o!"));
+
+    // When
+    var header = reader.readHeader();
+
+    // Then
+    assertThat(header).isEqualTo(new RleHeader(2, 5, Rule.CONWAY));
+  }
+
+  @Test
+  void readHeader_NoHeader_ExceptionThrown() {
+    // Given
+    var reader = new RleReader(new StringReader("#C only comment\n"));
+
+    // When Then
+    assertThatThrownBy(reader::readHeader).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void readCells_GliderIntoWorld_GliderPlacedLineByLine() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader(GLIDER));
+    var header = reader.readHeader();
+    var world = new World(header.getHeight(), header.getWidth(), new HashMap<>(),
+        header.getRule());
+    world.initWorld();
+
+    // When
+    var aliveCellsNo = reader.readCells(world::setCell);
+
+    // Then
+    assertThat(aliveCellsNo).isEqualTo(5);
+    assertThat(world.getWorldRepresentation()).isEqualTo("# X # \n"
+        + "# # X \n"
+        + "X X X \n");
+  }
+
+  @Test
+  void readCells_RunsSplitAcrossLinesAndEmptyLines_CellsPlacedAtRunPositions()
+      throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader("x = 70, y = 6, rule = B36/S23\n"
+        + "6\n5bo3$\n2o!"));
+    var header = reader.readHeader();
+    var world = new BitBoardWorld(header.getHeight(), header.getWidth(), header.getRule());
+
+    // When
+    var aliveCellsNo = reader.readCells(world.getCurrentGeneration()::setCell);
+
+    // Then
+    var cells = world.getCurrentGeneration();
+    assertThat(aliveCellsNo).isEqualTo(3);
+    assertThat(cells.getPopulation()).isEqualTo(3);
+    assertThat(cells.isAlive(0, 65)).isTrue();
+    assertThat(cells.isAlive(3, 0)).isTrue();
+    assertThat(cells.isAlive(3, 1)).isTrue();
+  }
+
+  @Test
+  void readCells_GliderIntoSparseWorld_GliderEvolvesAsExpected() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader(GLIDER));
+    var header = reader.readHeader();
+    var world = new SparseWorld(header.getHeight(), header.getWidth(), header.getRule());
+    reader.readCells(world::setCell);
+
+    // When
+    for (int generation = 0; generation < 4; generation++) {
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+    }
+
+    // Then
+    assertThat(world.getPopulation()).isEqualTo(5);
+    assertThat(world.isAlive(1, 2)).isTrue();
+    assertThat(world.isAlive(2, 3)).isTrue();
+    assertThat(world.isAlive(3, 1)).isTrue();
+    assertThat(world.isAlive(3, 2)).isTrue();
+    assertThat(world.isAlive(3, 3)).isTrue();
+  }
+
+  @Test
+  void readCells_RowLongerThanHeader_ExceptionThrownBeforeNextLineIsWritten() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader("x = 3, y = 2\n4o$3o!"));
+    var header = reader.readHeader();
+    var world = new World(header.getHeight(), header.getWidth(), new HashMap<>());
+    world.initWorld();
+
+    // When Then
+    assertThatThrownBy(() -> reader.readCells(world::setCell))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("exceeds its header");
+    assertThat(world.getCell(1, 0)).isZero();
+  }
+
+  @Test
+  void readCells_MoreLinesThanHeader_ExceptionThrown() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader("x = 3, y = 2\n3o5$o!"));
+    reader.readHeader();
+    var cells = new BitGrid(2, 3);
+
+    // When Then
+    assertThatThrownBy(() -> reader.readCells(cells::setCell))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void readCells_UnknownTag_ExceptionThrown() throws IOException {
+    // Given
+    var reader = new RleReader(new StringReader("x = 3, y = 1\nobz!"));
+    reader.readHeader();
+    var cells = new BitGrid(1, 3);
+
+    // When Then
+    assertThatThrownBy(() -> reader.readCells(cells::setCell))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("'z'");
+  }
+}
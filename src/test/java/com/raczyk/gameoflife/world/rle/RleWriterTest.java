@@ -0,0 +1,75 @@
+package com.raczyk.gameoflife.world.rle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RleWriterTest {
+  private static final int SEED = 4;
+
+  @Test
+  void write_Glider_RunsWithoutTrailingDeadCells() throws IOException {
+    // Given
+    var world = new BitBoardWorld(5, 4);
+    var cells = world.getCurrentGeneration();
+    cells.setCell(0, 1, Rule.ALIVE_STATE);
+    cells.setCell(1, 2, Rule.ALIVE_STATE);
+    cells.setCell(2, 0, Rule.ALIVE_STATE);
+    cells.setCell(2, 1, Rule.ALIVE_STATE);
+    cells.setCell(2, 2, Rule.ALIVE_STATE);
+    var output = new StringWriter();
+
+    // When
+    new RleWriter(output).write(new RleHeader(4, 5, Rule.CONWAY), cells::getCell);
+
+    // Then
+    assertThat(output.toString()).isEqualTo("x = 4, y = 5, rule = B3/S23\n"
+        + "bo$2bo$3o!\n");
+  }
+
+  @Test
+  void write_LongRunsAndEmptyLines_LinesNotLongerThanSeventyCharacters() throws IOException {
+    // Given
+    var world = new BitBoardWorld(200, 100);
+    var cells = world.getCurrentGeneration();
+    for (int coordinateX = 0; coordinateX < 200; coordinateX += 4) {
+      for (int coordinateY = 0; coordinateY < 100; coordinateY += 2) {
+        cells.setCell(coordinateX, coordinateY, Rule.ALIVE_STATE);
+      }
+    }
+    var output = new StringWriter();
+
+    // When
+    new RleWriter(output).write(new RleHeader(100, 200, Rule.CONWAY), cells::getCell);
+
+    // Then
+    assertThat(output.toString().lines()).allMatch(line -> line.length() <= 70);
+  }
+
+  @Test
+  void write_RandomWorld_ReadBackToTheSameWorld() throws IOException {
+    // Given
+    var world = new BitBoardWorld(50, 90, Rule.parse("B36/S23"));
+    world.initWorld(new Random(SEED));
+    var header = new RleHeader(90, 50, world.getRule());
+    var output = new StringWriter();
+
+    // When
+    new RleWriter(output).write(header, world.getCurrentGeneration()::getCell);
+
+    // Then
+    var reader = new RleReader(new StringReader(output.toString()));
+    var readHeader = reader.readHeader();
+    var readWorld = new BitBoardWorld(readHeader.getHeight(), readHeader.getWidth(),
+        readHeader.getRule());
+    reader.readCells(readWorld.getCurrentGeneration()::setCell);
+    assertThat(readHeader).isEqualTo(header);
+    assertThat(readWorld.getWorldRepresentation()).isEqualTo(world.getWorldRepresentation());
+  }
+}
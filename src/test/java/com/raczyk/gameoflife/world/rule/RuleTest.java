@@ -0,0 +1,79 @@
+package com.raczyk.gameoflife.world.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class RuleTest {
+
+  @Test
+  void parse_ConwayRulestring_BirthAndSurvivalMasks() {
+    // When
+    var rule = Rule.parse("B3/S23");
+
+    // Then
+    assertThat(rule.getBirthMask()).isEqualTo(0b1000);
+    assertThat(rule.getSurvivalMask()).isEqualTo(0b1100);
+    assertThat(rule).isEqualTo(Rule.CONWAY);
+  }
+
+  @Test
+  void parse_SurvivalFirstLowerCaseRulestring_SameRuleAsBirthFirst() {
+    // When
+    var rule = Rule.parse("s23/b36");
+
+    // Then
+    assertThat(rule).isEqualTo(Rule.parse("B36/S23"));
+    assertThat(rule).hasToString("B36/S23");
+  }
+
+  @Test
+  void parse_RulestringWithoutSurvival_NoCellSurvives() {
+    // When
+    var rule = Rule.parse("B2/S");
+
+    // Then
+    assertThat(rule.getSurvivalMask()).isZero();
+    assertThat(rule.getBirthMask()).isEqualTo(1 << 2);
+  }
+
+  @Test
+  void parse_RulestringNotInBirthSurvivalNotation_IllegalArgumentException() {
+    // When, Then
+    assertThatThrownBy(() -> Rule.parse("B9/S23"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("B9/S23");
+  }
+
+  @Test
+  void getNextState_HighLifeRule_StatesFromLookupTable() {
+    // Given
+    var rule = Rule.parse("B36/S23");
+
+    // Then
+    assertThat(rule.getNextState(Rule.DEAD_STATE, 6)).isEqualTo(Rule.ALIVE_STATE);
+    assertThat(rule.getNextState(Rule.DEAD_STATE, 2)).isEqualTo(Rule.DEAD_STATE);
+    assertThat(rule.getNextState(Rule.ALIVE_STATE, 2)).isEqualTo(Rule.ALIVE_STATE);
+    assertThat(rule.getNextState(Rule.ALIVE_STATE, 6)).isEqualTo(Rule.DEAD_STATE);
+  }
+
+  @Test
+  void evolve_EveryNeighbourNumberAndState_SameStatesAsLookupTable() {
+    // Given
+    var rule = Rule.parse("B1357/S02468");
+
+    for (int state = Rule.DEAD_STATE; state <= Rule.ALIVE_STATE; state++) {
+      for (int livingNeighboursNo = 0; livingNeighboursNo <= Rule.MAX_NEIGHBOURS_NO;
+           livingNeighboursNo++) {
+        // When
+        var nextWord = rule.evolve(-(long) (livingNeighboursNo & 1),
+            -(long) (livingNeighboursNo >>> 1 & 1), -(long) (livingNeighboursNo >>> 2 & 1),
+            -(long) (livingNeighboursNo >>> 3 & 1), -(long) state);
+
+        // Then
+        assertThat(nextWord).isEqualTo(-(long) rule.getNextState(state, livingNeighboursNo));
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+  private static final int SEED = 4;
+
+  @Test
+  void add_KeyAlreadyPresent_FalseAndSizeUnchanged() {
+    // Given
+    var set = new LongHashSet();
+    set.add(7L);
+
+    // When
+    var added = set.add(7L);
+
+    // Then
+    assertThat(added).isFalse();
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  void remove_KeyUsedAsEmptySlotMarker_KeyRemoved() {
+    // Given
+    var set = new LongHashSet();
+    set.add(Long.MIN_VALUE);
+
+    // When
+    var removed = set.remove(Long.MIN_VALUE);
+
+    // Then
+    assertThat(removed).isTrue();
+    assertThat(set.contains(Long.MIN_VALUE)).isFalse();
+    assertThat(set.isEmpty()).isTrue();
+  }
+
+  @Test
+  void addAndRemove_RandomOperations_SameContentAsHashSet() {
+    // Given
+    final var operations = 20000;
+    final var keyRange = 500;
+    var random = new Random(SEED);
+    var set = new LongHashSet();
+    Set<Long> expectedSet = new HashSet<>();
+
+    // When
+    for (int operation = 0; operation < operations; operation++) {
+      long key = random.nextInt(keyRange) - keyRange / 2;
+      if (random.nextBoolean()) {
+        assertThat(set.add(key)).isEqualTo(expectedSet.add(key));
+      } else {
+        assertThat(set.remove(key)).isEqualTo(expectedSet.remove(key));
+      }
+    }
+
+    // Then
+    Set<Long> content = new HashSet<>();
+    set.forEach(content::add);
+    assertThat(content).isEqualTo(expectedSet);
+    assertThat(set.size()).isEqualTo(expectedSet.size());
+  }
+}
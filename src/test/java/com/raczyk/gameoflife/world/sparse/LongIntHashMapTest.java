@@ -0,0 +1,57 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+  @Test
+  void get_MissingKey_Zero() {
+    // Given
+    var map = new LongIntHashMap();
+
+    // When
+    var value = map.get(3L);
+
+    // Then
+    assertThat(value).isZero();
+  }
+
+  @Test
+  void addTo_ManyKeysBeyondInitialCapacity_ValuesSummedPerKey() {
+    // Given
+    final var keysNo = 1000;
+    var map = new LongIntHashMap();
+
+    // When
+    for (int key = 0; key < keysNo; key++) {
+      map.addTo(key, 1);
+      map.addTo(key, key);
+    }
+    map.addTo(Long.MIN_VALUE, 2);
+
+    // Then
+    Map<Long, Integer> content = new HashMap<>();
+    map.forEach(content::put);
+    assertThat(map.size()).isEqualTo(keysNo + 1);
+    assertThat(content).hasSize(keysNo + 1).containsEntry(999L, 1000)
+        .containsEntry(Long.MIN_VALUE, 2);
+  }
+
+  @Test
+  void clear_MapWithKeys_EmptyMap() {
+    // Given
+    var map = new LongIntHashMap();
+    map.addTo(1L, 1);
+
+    // When
+    map.clear();
+
+    // Then
+    assertThat(map.size()).isZero();
+    assertThat(map.get(1L)).isZero();
+  }
+}
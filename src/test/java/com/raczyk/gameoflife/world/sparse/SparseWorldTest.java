@@ -0,0 +1,85 @@
+package com.raczyk.gameoflife.world.sparse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SparseWorldTest {
+  private static final int ALIVE_CELL_STATE = 1;
+  private static final int SEED = 4;
+
+  @Test
+  void evolveToNextGeneration_GliderMovingTowardsNegativeCoordinateY_GliderLeavesPresentedPart() {
+    // Given
+    final var generations = 40;
+    var world = new SparseWorld(5, 5);
+    world.setCell(0, 1, ALIVE_CELL_STATE);
+    world.setCell(1, 0, ALIVE_CELL_STATE);
+    world.setCell(2, 0, ALIVE_CELL_STATE);
+    world.setCell(2, 1, ALIVE_CELL_STATE);
+    world.setCell(2, 2, ALIVE_CELL_STATE);
+
+    // When
+    for (int generation = 0; generation < generations; generation++) {
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+    }
+
+    // Then
+    final var distance = generations / 4;
+    assertThat(world.getPopulation()).isEqualTo(5);
+    assertThat(world.isAlive(distance, 1 - distance)).isTrue();
+    assertThat(world.isAlive(1 + distance, -distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, -distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, 1 - distance)).isTrue();
+    assertThat(world.isAlive(2 + distance, 2 - distance)).isTrue();
+  }
+
+  @Test
+  void evolveToNextGeneration_RandomCellsFarFromBorders_SameGenerationsAsBitBoardWorld() {
+    // Given
+    final var patternSize = 16;
+    final var margin = 20;
+    final var generations = 20;
+    var world = new SparseWorld(patternSize, patternSize, Rule.parse("B36/S23"));
+    var bitBoardWorld = new BitBoardWorld(patternSize + 2 * margin, patternSize + 2 * margin,
+        Rule.parse("B36/S23"));
+    world.initWorld(new Random(SEED));
+    var random = new Random(SEED);
+    for (int coordinateX = 0; coordinateX < patternSize; coordinateX++) {
+      for (int coordinateY = 0; coordinateY < patternSize; coordinateY++) {
+        bitBoardWorld.getCurrentGeneration()
+            .setCell(coordinateX + margin, coordinateY + margin, random.nextInt(2));
+      }
+    }
+
+    // When
+    for (int generation = 0; generation < generations; generation++) {
+      world.setNextGeneration();
+      world.evolveToNextGeneration();
+      bitBoardWorld.setNextGeneration();
+      bitBoardWorld.evolveToNextGeneration();
+    }
+
+    // Then
+    var bitBoardGeneration = bitBoardWorld.getCurrentGeneration();
+    assertThat(world.getPopulation()).isEqualTo(bitBoardGeneration.getPopulation());
+    for (int coordinateX = -margin; coordinateX < patternSize + margin; coordinateX++) {
+      for (int coordinateY = -margin; coordinateY < patternSize + margin; coordinateY++) {
+        assertThat(world.getCell(coordinateX, coordinateY))
+            .isEqualTo(bitBoardGeneration.getCell(coordinateX + margin, coordinateY + margin));
+      }
+    }
+  }
+
+  @Test
+  void constructor_RuleWithBirthWithoutNeighbours_IllegalArgumentException() {
+    // When, Then
+    assertThatThrownBy(() -> new SparseWorld(3, 3, Rule.parse("B0/S")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,76 @@
+package com.raczyk.gameoflife.world.tile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.raczyk.gameoflife.world.bitboard.BitBoardWorld;
+import com.raczyk.gameoflife.world.rule.Rule;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class TiledWorldTest {
+  private static final int ALIVE_CELL_STATE = 1;
+  private static final int SEED = 4;
+
+  @Test
+  void advance_RandomWorldSpanningPartialTiles_SameGenerationsAsBitBoardWorld() {
+    // Given
+    final var columnNo = 150;
+    final var rowNo = 200;
+    final var generations = 40;
+    var highLife = Rule.parse("B36/S23");
+    var tiledWorld = new TiledWorld(columnNo, rowNo, highLife, new ForkJoinPool(4));
+    var bitBoardWorld = new BitBoardWorld(columnNo, rowNo, highLife);
+    tiledWorld.initWorld(new Random(SEED));
+    bitBoardWorld.initWorld(new Random(SEED));
+
+    // When
+    tiledWorld.advance(generations);
+    bitBoardWorld.advance(generations);
+
+    // Then
+    assertThat(tiledWorld.getWorldRepresentation())
+        .isEqualTo(bitBoardWorld.getWorldRepresentation());
+    assertThat(tiledWorld.getPopulation())
+        .isEqualTo(bitBoardWorld.getCurrentGeneration().getPopulation());
+  }
+
+  @Test
+  void advance_GliderCrossingTileCorner_GliderMovedToNeighbourTile() {
+    // Given
+    final var generations = 8;
+    var world = new TiledWorld(128, 128);
+    world.setCell(61, 63, ALIVE_CELL_STATE);
+    world.setCell(62, 64, ALIVE_CELL_STATE);
+    world.setCell(63, 62, ALIVE_CELL_STATE);
+    world.setCell(63, 63, ALIVE_CELL_STATE);
+    world.setCell(63, 64, ALIVE_CELL_STATE);
+
+    // When
+    world.advance(generations);
+
+    // Then
+    assertThat(world.getPopulation()).isEqualTo(5);
+    assertThat(world.isAlive(63, 65)).isTrue();
+    assertThat(world.isAlive(64, 66)).isTrue();
+    assertThat(world.isAlive(65, 64)).isTrue();
+    assertThat(world.isAlive(65, 65)).isTrue();
+    assertThat(world.isAlive(65, 66)).isTrue();
+  }
+
+  @Test
+  void setNextGeneration_BlinkerInOneCornerTile_OnlyTilesAroundItActive() {
+    // Given
+    var world = new TiledWorld(256, 256);
+    world.setCell(10, 10, ALIVE_CELL_STATE);
+    world.setCell(10, 11, ALIVE_CELL_STATE);
+    world.setCell(10, 12, ALIVE_CELL_STATE);
+
+    // When
+    world.setNextGeneration();
+
+    // Then
+    assertThat(world.getTilesNo()).isEqualTo(16);
+    assertThat(world.getActiveTilesNo()).isEqualTo(4);
+  }
+}